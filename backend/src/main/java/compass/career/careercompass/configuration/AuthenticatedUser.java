@@ -0,0 +1,37 @@
+package compass.career.careercompass.configuration;
+
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+
+/**
+ * Usuario autenticado construido a partir de los claims del JWT, sin consultar la base de datos.
+ */
+@Value
+@Builder
+public class AuthenticatedUser implements AuthenticatedPrincipal {
+    Integer id;
+    String email;
+    String role;
+    String tokenId;
+    Date issuedAt;
+    Date expiresAt;
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        if (role == null) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()));
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,108 @@
+package compass.career.careercompass.configuration;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource que mide las sentencias para {@link SqlStatementStats}. Las conexiones,
+ * sentencias y ResultSets se envuelven en proxies ligeros: cada {@code execute*} (un batch
+ * cuenta como una sentencia) suma su tiempo y cada {@code next()} exitoso suma una fila.
+ * Sin una medición abierta en el hilo, las llamadas pasan directo.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    public InstrumentedDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    private static Connection connection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    // Identidad del proxy (Spring compara conexiones al liberar recursos)
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+
+                    Object result = invoke(target, method, args);
+                    if (result instanceof Statement statement) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                        return statement(statement, sql);
+                    }
+                    return result;
+                });
+    }
+
+    private static Statement statement(Statement target, String preparedSql) {
+        Class<?> type = target instanceof CallableStatement ? CallableStatement.class
+                : target instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+            if (!SqlStatementStats.active()) {
+                return invoke(target, method, args);
+            }
+
+            if (name.startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                long start = System.nanoTime();
+                try {
+                    return resultSet(invoke(target, method, args));
+                } finally {
+                    SqlStatementStats.recordStatement(sql, System.nanoTime() - start);
+                }
+            }
+            if (name.equals("getResultSet")) {
+                return resultSet(invoke(target, method, args));
+            }
+            return invoke(target, method, args);
+        };
+        return (Statement) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object resultSet(Object result) {
+        if (!(result instanceof ResultSet target)) {
+            return result;
+        }
+        return Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    Object value = invoke(target, method, args);
+                    if (method.getName().equals("next") && Boolean.TRUE.equals(value)) {
+                        SqlStatementStats.recordRow();
+                    }
+                    return value;
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
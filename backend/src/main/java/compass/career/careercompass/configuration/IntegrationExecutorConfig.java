@@ -0,0 +1,59 @@
+package compass.career.careercompass.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class IntegrationExecutorConfig {
+
+    /**
+     * Pool para las llamadas concurrentes a Azure Text Analytics (sentimiento y frases clave).
+     */
+    @Bean(name = "azureExecutor")
+    public ThreadPoolTaskExecutor azureExecutor(
+            @Value("${azure.cognitive.pool-size:8}") int poolSize,
+            @Value("${azure.cognitive.queue-capacity:50}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("azure-");
+        return executor;
+    }
+
+    /**
+     * Pool para las búsquedas en Reddit (refrescos de la caché en segundo plano).
+     */
+    @Bean(name = "redditExecutor")
+    public ThreadPoolTaskExecutor redditExecutor(
+            @Value("${reddit.pool-size:4}") int poolSize,
+            @Value("${reddit.queue-capacity:100}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("reddit-");
+        return executor;
+    }
+
+    /**
+     * Pool para las cargas de snapshots de redes sociales. Es distinto del de Reddit porque
+     * cada carga espera búsquedas que se ejecutan en ese pool.
+     */
+    @Bean(name = "socialSnapshotExecutor")
+    public ThreadPoolTaskExecutor socialSnapshotExecutor(
+            @Value("${social.load.pool-size:2}") int poolSize,
+            @Value("${social.load.queue-capacity:100}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("social-snapshot-");
+        return executor;
+    }
+}
@@ -1,5 +1,6 @@
 package compass.career.careercompass.configuration;
 
+import compass.career.careercompass.model.Credential;
 import compass.career.careercompass.service.JwtService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -8,9 +9,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -42,24 +41,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             final String jwt = authHeader.substring(7);
-            final String userEmail = jwtService.extractUsername(jwt);
 
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                AuthenticatedUser principal = jwtService.authenticate(jwt);
 
-            if (userEmail != null && authentication == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                if (principal.getId() == null) {
+                    // Token emitido antes de incluir id y rol como claims; la revocación por
+                    // usuario solo se puede comprobar con el id ya resuelto
+                    principal = loadLegacyPrincipal(principal);
+                    jwtService.checkNotRevoked(principal);
+                }
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities()
-                    );
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        principal,
+                        null,
+                        principal.getAuthorities()
+                );
 
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
 
             filterChain.doFilter(request, response);
@@ -67,4 +68,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             handlerExceptionResolver.resolveException(request, response, null, exception);
         }
     }
-}
\ No newline at end of file
+
+    private AuthenticatedUser loadLegacyPrincipal(AuthenticatedUser principal) {
+        Credential credential = (Credential) userDetailsService.loadUserByUsername(principal.getEmail());
+
+        return AuthenticatedUser.builder()
+                .id(credential.getUser().getId())
+                .email(principal.getEmail())
+                .role(credential.getUser().getRole().getName())
+                .tokenId(principal.getTokenId())
+                .issuedAt(principal.getIssuedAt())
+                .expiresAt(principal.getExpiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package compass.career.careercompass.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class RecommendationJobConfig {
+
+    /**
+     * Pool acotado para los trabajos de recomendación: los hilos de Tomcat solo encolan el trabajo
+     * y la espera a Groq ocurre aquí. Si la cola se llena, el envío se rechaza (503).
+     */
+    @Bean(name = "recommendationJobExecutor")
+    public ThreadPoolTaskExecutor recommendationJobExecutor(
+            @Value("${recommendations.jobs.pool-size:4}") int poolSize,
+            @Value("${recommendations.jobs.queue-capacity:100}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("recommendation-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
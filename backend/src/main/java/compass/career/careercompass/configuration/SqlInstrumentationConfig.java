@@ -0,0 +1,30 @@
+package compass.career.careercompass.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SqlInstrumentationConfig {
+
+    /**
+     * Envuelve el DataSource en {@link InstrumentedDataSource}. El pool sigue accesible con
+     * {@code unwrap}, así las métricas de Hikari no cambian.
+     */
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(
+            @Value("${sql.instrumentation.enabled:true}") boolean enabled) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
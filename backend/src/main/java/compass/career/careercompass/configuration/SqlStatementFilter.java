@@ -0,0 +1,113 @@
+package compass.career.careercompass.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide las sentencias SQL de cada petición (incluida la autenticación, por eso va antes que
+ * Spring Security) y las publica por handler ({@code Controlador#método}):
+ * {@code sql.request.statements}, {@code sql.request.jdbc.time}, {@code sql.request.rows} y
+ * {@code sql.request.slowest}. Si la petición excede el presupuesto se registra un aviso con
+ * la sentencia más lenta.
+ *
+ * <p>En peticiones asíncronas (SSE) solo se mide la parte que corre en el hilo de la petición.
+ * Las estadísticas quedan en el atributo {@link SqlStatementStats#REQUEST_ATTRIBUTE}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private static final int MAX_LOGGED_SQL = 300;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int statementBudget;
+    private final long timeBudgetMs;
+
+    public SqlStatementFilter(MeterRegistry meterRegistry,
+                              @Value("${sql.instrumentation.enabled:true}") boolean enabled,
+                              @Value("${sql.instrumentation.statement-budget:25}") int statementBudget,
+                              @Value("${sql.instrumentation.time-budget-ms:500}") long timeBudgetMs) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.statementBudget = statementBudget;
+        this.timeBudgetMs = timeBudgetMs;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            stats.close();
+            request.setAttribute(SqlStatementStats.REQUEST_ATTRIBUTE, stats);
+
+            String handler = handlerName(request);
+            if (handler != null) {
+                record(handler, stats);
+                checkBudget(request, handler, stats);
+            }
+        }
+    }
+
+    private void record(String handler, SqlStatementStats stats) {
+        meterRegistry.summary("sql.request.statements", "handler", handler).record(stats.getStatements());
+        meterRegistry.timer("sql.request.jdbc.time", "handler", handler).record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        meterRegistry.summary("sql.request.rows", "handler", handler).record(stats.getRows());
+        if (stats.getStatements() > 0) {
+            meterRegistry.timer("sql.request.slowest", "handler", handler).record(stats.getSlowestNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void checkBudget(HttpServletRequest request, String handler, SqlStatementStats stats) {
+        long jdbcMs = TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos());
+        if (stats.getStatements() <= statementBudget && jdbcMs <= timeBudgetMs) {
+            return;
+        }
+        log.warn("SQL budget exceeded in {} {} ({}): {} statements (budget {}), {} ms JDBC (budget {} ms), {} rows; slowest {} ms: {}",
+                request.getMethod(), request.getRequestURI(), handler,
+                stats.getStatements(), statementBudget, jdbcMs, timeBudgetMs, stats.getRows(),
+                TimeUnit.NANOSECONDS.toMillis(stats.getSlowestNanos()), abbreviate(stats.getSlowestSql()));
+    }
+
+    // Controlador#método, o null si la petición no llegó a un controlador
+    private static String handlerName(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "#" + method.getMethod().getName();
+        }
+        return null;
+    }
+
+    private static String abbreviate(String sql) {
+        if (sql == null || sql.length() <= MAX_LOGGED_SQL) {
+            return sql;
+        }
+        return sql.substring(0, MAX_LOGGED_SQL) + "…";
+    }
+}
@@ -0,0 +1,100 @@
+package compass.career.careercompass.configuration;
+
+/**
+ * Estadísticas de las sentencias SQL ejecutadas en el hilo actual mientras la medición está
+ * abierta: número de sentencias, tiempo total en JDBC, filas leídas y la sentencia más lenta.
+ * Las llena {@link InstrumentedDataSource}; fuera de una medición no se registra nada.
+ *
+ * <p>Las mediciones se pueden anidar: cada sentencia cuenta en la medición actual y en las
+ * que la contienen (p. ej. la de la petición y la de un test).
+ */
+public final class SqlStatementStats implements AutoCloseable {
+
+    /** Atributo de la petición con las estadísticas de la petición terminada. */
+    public static final String REQUEST_ATTRIBUTE = SqlStatementStats.class.getName();
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatementStats parent;
+    private boolean closed;
+
+    private int statements;
+    private long jdbcNanos;
+    private long rows;
+    private long slowestNanos;
+    private String slowestSql;
+
+    private SqlStatementStats(SqlStatementStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Abre una medición en el hilo actual; se cierra con {@link #close()}.
+     */
+    public static SqlStatementStats start() {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static boolean active() {
+        return CURRENT.get() != null;
+    }
+
+    static void recordStatement(String sql, long nanos) {
+        for (SqlStatementStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.statements++;
+            stats.jdbcNanos += nanos;
+            if (nanos > stats.slowestNanos) {
+                stats.slowestNanos = nanos;
+                stats.slowestSql = sql;
+            }
+        }
+    }
+
+    static void recordRow() {
+        for (SqlStatementStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.rows++;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // Si quedó una medición interna abierta se descarta junto con esta
+        if (parent != null) {
+            CURRENT.set(parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getSlowestNanos() {
+        return slowestNanos;
+    }
+
+    /** SQL de la sentencia más lenta, o null si no se ejecutó ninguna. */
+    public String getSlowestSql() {
+        return slowestSql;
+    }
+
+    @Override
+    public String toString() {
+        return statements + " statements, " + jdbcNanos / 1_000_000 + " ms JDBC, " + rows + " rows";
+    }
+}
@@ -1,6 +1,7 @@
 package compass.career.careercompass.controller;
 
 import compass.career.careercompass.dto.AcademicInformationRequest;
+import compass.career.careercompass.dto.CursorPageResponse;
 import compass.career.careercompass.dto.AcademicInformationResponse;
 import compass.career.careercompass.service.AcademicInformationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,7 +14,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/academic")
@@ -25,25 +25,25 @@ public class AcademicController {
     private final AcademicInformationService academicInformationService;
     private final AuthenticationHelper authHelper;
 
-    @GetMapping(value = "pagination", params = { "page", "pageSize" })
+    @GetMapping(value = "pagination", params = { "pageSize" })
     @Operation(
             summary = "Get paginated academic information",
             description = "Retrieves a list of academic information records belonging to the authenticated user with pagination support."
     )
-    public List<AcademicInformationResponse> getAcademicInformation(
+    public CursorPageResponse<AcademicInformationResponse> getAcademicInformation(
             Authentication authentication,
-            @Parameter(description = "Page number (starts at 0)", example = "0")
-            @RequestParam(value = "page", defaultValue = "0", required = false) int page,
+            @Parameter(description = "Continuation token returned as \'Next cursor\' by the previous page; omit it for the first page")
+            @RequestParam(value = "cursor", required = false) String cursor,
             @Parameter(description = "Number of records per page", example = "10")
             @RequestParam(value = "pageSize", defaultValue = "10", required = false) int pageSize) {
 
-        if (page < 0 || pageSize < 0 || (page == 0 && pageSize == 0)) {
+        if (pageSize <= 0) {
             throw new IllegalArgumentException(
-                    "Invalid pagination parameters: page and pageSize cannot be negative and cannot both be 0.");
+                    "Invalid pagination parameters: pageSize must be greater than 0.");
         }
 
         var user = authHelper.getAuthenticatedUser(authentication);
-        return academicInformationService.findByUserId(user.getId(), page, pageSize);
+        return academicInformationService.findByUserId(user.getId(), cursor, pageSize);
     }
 
     @PostMapping
@@ -68,6 +68,19 @@ public class AuthController {
         authService.changePassword(user.getId(), request);
     }
 
+    @PostMapping("/logout")
+    @Operation(
+            summary = "Log out",
+            description = "Deactivates the session of the JWT token used in the request so it can no longer be used on any server."
+    )
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void logout(@RequestHeader("Authorization") String authorization) {
+        if (!authorization.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("Authorization header must use the Bearer scheme");
+        }
+        authService.logout(authorization.substring(7));
+    }
+
     @PutMapping("/profile")
     @Operation(
             summary = "Update profile information",
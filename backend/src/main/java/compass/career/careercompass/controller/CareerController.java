@@ -1,15 +1,18 @@
 package compass.career.careercompass.controller;
 
 import compass.career.careercompass.dto.*;
+import compass.career.careercompass.service.RecommendationJobService;
 import compass.career.careercompass.service.CareerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.URI;
 import java.util.List;
@@ -22,6 +25,7 @@ import java.util.List;
 public class CareerController {
 
     private final CareerService careerService;
+    private final RecommendationJobService recommendationJobService;
     private final AuthenticationHelper authHelper;
 
     @PostMapping("/recommendations")
@@ -34,6 +38,50 @@ public class CareerController {
         return careerService.getRecommendedCareers(user.getId());
     }
 
+    @PostMapping("/recommendations/jobs")
+    @Operation(
+            summary = "Start an asynchronous career recommendation job",
+            description = "Queues the generation of career recommendations and returns immediately with 202 Accepted and the job id. The result can be obtained by polling the job status endpoint or by subscribing to its server-sent events stream. If the user already has a job in progress, that job is returned."
+    )
+    public ResponseEntity<RecommendationJobResponse> startRecommendationJob(Authentication authentication) {
+        var user = authHelper.getAuthenticatedUser(authentication);
+        RecommendationJobResponse response = recommendationJobService.submitCareerJob(user.getId());
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/v1/careers/recommendations/jobs/" + response.getJobId()))
+                .body(response);
+    }
+
+    @GetMapping("/recommendations/jobs/{jobId}")
+    @Operation(
+            summary = "Get the status of a career recommendation job",
+            description = "Returns the job status (PENDING, RUNNING, COMPLETED or FAILED). When the job is completed the recommendations are included in the result."
+    )
+    public RecommendationJobResponse getRecommendationJob(Authentication authentication, @PathVariable String jobId) {
+        var user = authHelper.getAuthenticatedUser(authentication);
+        return recommendationJobService.getJob(user.getId(), RecommendationJobService.CAREER, jobId);
+    }
+
+    @GetMapping(value = "/recommendations/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Subscribe to a career recommendation job",
+            description = "Opens a server-sent events stream that emits a single 'completed' or 'failed' event with the job result once it finishes."
+    )
+    public SseEmitter subscribeToRecommendationJob(Authentication authentication, @PathVariable String jobId) {
+        var user = authHelper.getAuthenticatedUser(authentication);
+        return recommendationJobService.subscribe(user.getId(), RecommendationJobService.CAREER, jobId);
+    }
+
+    @GetMapping(value = "/recommendations/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream personalized career recommendations",
+            description = "Opens a server-sent events stream that emits a 'recommendation' event for each career as soon as Groq AI finishes generating it, then a 'completed' event with the full list (or a 'failed' event). Stored or cached recommendations are emitted immediately."
+    )
+    public SseEmitter streamRecommendedCareers(Authentication authentication) {
+        var user = authHelper.getAuthenticatedUser(authentication);
+        return recommendationJobService.streamCareerRecommendations(user.getId());
+    }
+
     @GetMapping("/details/{careerId}")
     @Operation(
             summary = "Get complete career details",
@@ -46,16 +94,16 @@ public class CareerController {
     @GetMapping
     @Operation(
             summary = "List all available careers with pagination",
-            description = "Retrieves the catalog of university careers available in the system with pagination support. Careers are sorted alphabetically by name. The page and pageSize parameters control the amount of results returned."
+            description = "Retrieves the catalog of university careers available in the system with pagination support. Careers are sorted alphabetically by name. Each response includes an opaque 'Next cursor' token to request the following page; pageSize controls the amount of results returned."
     )
-    public List<CareerResponse> getAllCareers(
-            @Parameter(description = "Page number (starts at 0)", example = "0")
-            @RequestParam(value = "page", defaultValue = "0") int page,
+    public CursorPageResponse<CareerResponse> getAllCareers(
+            @Parameter(description = "Continuation token returned as 'Next cursor' by the previous page; omit it for the first page")
+            @RequestParam(value = "cursor", required = false) String cursor,
 
             @Parameter(description = "Number of careers per page", example = "10")
             @RequestParam(value = "pageSize", defaultValue = "10") int pageSize) {
 
-        return careerService.getAllCareers(page, pageSize);
+        return careerService.getAllCareers(cursor, pageSize);
     }
 
     @GetMapping("/{careerId}")
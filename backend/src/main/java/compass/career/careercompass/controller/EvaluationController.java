@@ -3,9 +3,15 @@ package compass.career.careercompass.controller;
 import compass.career.careercompass.dto.*;
 import compass.career.careercompass.service.EvaluationService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -23,13 +29,20 @@ public class EvaluationController {
     private final EvaluationService evaluationService;
     private final AuthenticationHelper authHelper;
 
+    @Value("${evaluations.test-payload.preserialized:true}")
+    private boolean preserializedTests;
+
     @GetMapping("/personality-test")
     @Operation(
             summary = "Get personality test",
-            description = "Retrieves the questions for the personality test based on the Holland RIASEC model. Questions are randomly selected from the active question bank to ensure variety in each application."
+            description = "Retrieves the questions for the personality test based on the Holland RIASEC model. Questions are randomly selected from the active question bank to ensure variety in each application.",
+            responses = @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = TestResponse.class)))
     )
-    public TestResponse getPersonalityTest() {
-        return evaluationService.getPersonalityTest();
+    public ResponseEntity<?> getPersonalityTest() {
+        if (preserializedTests) {
+            return serializedTest(evaluationService.getSerializedPersonalityTest());
+        }
+        return ResponseEntity.ok(evaluationService.getPersonalityTest());
     }
 
     @PostMapping("/personality-test")
@@ -50,10 +63,14 @@ public class EvaluationController {
     @GetMapping("/vocational-interests-test")
     @Operation(
             summary = "Get vocational interests test",
-            description = "Retrieves the questions for the vocational interests test. This test evaluates the user's areas of professional interest and their affinities with different work fields. Questions are randomly selected for each application."
+            description = "Retrieves the questions for the vocational interests test. This test evaluates the user's areas of professional interest and their affinities with different work fields. Questions are randomly selected for each application.",
+            responses = @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = TestResponse.class)))
     )
-    public TestResponse getVocationalInterestsTest() {
-        return evaluationService.getVocationalInterestsTest();
+    public ResponseEntity<?> getVocationalInterestsTest() {
+        if (preserializedTests) {
+            return serializedTest(evaluationService.getSerializedVocationalInterestsTest());
+        }
+        return ResponseEntity.ok(evaluationService.getVocationalInterestsTest());
     }
 
     @PostMapping("/vocational-interests-test")
@@ -74,10 +91,14 @@ public class EvaluationController {
     @GetMapping("/cognitive-skills-test")
     @Operation(
             summary = "Get cognitive skills test",
-            description = "Retrieves the questions for the cognitive skills test. This test evaluates mental abilities such as logical reasoning, memory, attention, verbal comprehension, and numerical skills. Questions are randomly selected from the active bank."
+            description = "Retrieves the questions for the cognitive skills test. This test evaluates mental abilities such as logical reasoning, memory, attention, verbal comprehension, and numerical skills. Questions are randomly selected from the active bank.",
+            responses = @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = TestResponse.class)))
     )
-    public TestResponse getCognitiveSkillsTest() {
-        return evaluationService.getCognitiveSkillsTest();
+    public ResponseEntity<?> getCognitiveSkillsTest() {
+        if (preserializedTests) {
+            return serializedTest(evaluationService.getSerializedCognitiveSkillsTest());
+        }
+        return ResponseEntity.ok(evaluationService.getCognitiveSkillsTest());
     }
 
     @PostMapping("/cognitive-skills-test")
@@ -117,4 +138,13 @@ public class EvaluationController {
         EvaluationDetailResponse response = evaluationService.getEvaluationDetail(user.getId(), evaluationId);
         return ResponseEntity.ok(response);
     }
+
+    // Misma forma que TestResponse. Cada respuesta es una muestra aleatoria distinta: sin ETag
+    // ni caché, para que un 304 no haga reutilizar la primera muestra
+    private ResponseEntity<byte[]> serializedTest(SerializedTestResponse test) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noStore())
+                .body(test.getJson());
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package compass.career.careercompass.controller;
 
 import compass.career.careercompass.dto.FavoriteCareerRequest;
+import compass.career.careercompass.dto.CursorPageResponse;
 import compass.career.careercompass.dto.FavoriteCareerResponse;
 import compass.career.careercompass.service.FavoriteCareerService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,7 +15,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/favorite-careers")
@@ -54,25 +54,25 @@ public class FavoriteCareerController {
         careerService.removeFavoriteCareer(user.getId(), careerId);
     }
 
-    @GetMapping(value = "/favorites", params = { "page", "pageSize" })
+    @GetMapping(value = "/favorites", params = { "pageSize" })
     @Operation(
             summary = "Get favorite careers with pagination",
             description = "Retrieves the list of careers marked as favorites by the user, with pagination support. Allows organizing and navigating large numbers of favorite careers efficiently. The page and pageSize parameters must be greater than or equal to 0, and cannot both be 0 simultaneously."
     )
-    public List<FavoriteCareerResponse> getFavoriteCareers(
+    public CursorPageResponse<FavoriteCareerResponse> getFavoriteCareers(
             Authentication authentication,
-            @Parameter(description = "Page number (starts at 0)", example = "0")
-            @RequestParam(value = "page", defaultValue = "0", required = false) int page,
+            @Parameter(description = "Continuation token returned as \'Next cursor\' by the previous page; omit it for the first page")
+            @RequestParam(value = "cursor", required = false) String cursor,
 
             @Parameter(description = "Number of favorite careers per page", example = "10")
             @RequestParam(value = "pageSize", defaultValue = "10", required = false) int pageSize) {
 
-        if (page < 0 || pageSize < 0 || (page == 0 && pageSize == 0)) {
+        if (pageSize <= 0) {
             throw new IllegalArgumentException(
-                    "Invalid pagination parameters: page and pageSize cannot be negative and cannot both be 0.");
+                    "Invalid pagination parameters: pageSize must be greater than 0.");
         }
 
         var user = authHelper.getAuthenticatedUser(authentication);
-        return careerService.getFavoriteCareers(user.getId(), page, pageSize);
+        return careerService.getFavoriteCareers(user.getId(), cursor, pageSize);
     }
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package compass.career.careercompass.controller;
 
+import compass.career.careercompass.service.UpstreamGuard;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -282,6 +284,37 @@ public class RestExceptionHandler {
         return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(body);
     }
 
+    /**
+     * Maneja el rechazo de trabajos cuando el pool de recomendaciones está saturado
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleTaskRejected(TaskRejectedException ex) {
+        Map<String, Object> body = buildErrorResponse(
+                "SERVICE_BUSY",
+                "Too many recommendation requests in progress. Please try again later",
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(body);
+    }
+
+    /**
+     * Maneja llamadas rechazadas por el circuit breaker o el límite de peticiones a un servicio externo
+     */
+    @ExceptionHandler(UpstreamGuard.RejectedCallException.class)
+    public ResponseEntity<Map<String, Object>> handleRejectedCall(UpstreamGuard.RejectedCallException ex) {
+        Map<String, Object> body = buildErrorResponse(
+                "UPSTREAM_UNAVAILABLE",
+                "An external service is temporarily unavailable. Please try again later",
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+
+        if (isDevelopmentMode()) {
+            body.put("details", ex.getMessage());
+        }
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(body);
+    }
+
     // ============= EXCEPCIONES DE HTTP =============
 
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
@@ -493,6 +526,9 @@ public class RestExceptionHandler {
         } else if (exMessage.contains("unsupported")) {
             message = "Unsupported JWT token";
             code = "UNSUPPORTED_JWT";
+        } else if (exMessage.contains("revoked")) {
+            message = "The JWT token has been revoked. Please login again";
+            code = "REVOKED_JWT";
         } else if (exMessage.contains("claims")) {
             message = "JWT claims string is empty";
             code = "EMPTY_JWT_CLAIMS";
@@ -1,6 +1,7 @@
 package compass.career.careercompass.controller;
 
 import compass.career.careercompass.dto.SkillRequest;
+import compass.career.careercompass.dto.CursorPageResponse;
 import compass.career.careercompass.dto.SkillResponse;
 import compass.career.careercompass.dto.UpdateSkillRequest;
 import compass.career.careercompass.service.SkillService;
@@ -14,7 +15,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/skills")
@@ -26,25 +26,25 @@ public class SkillController {
     private final SkillService skillService;
     private final AuthenticationHelper authHelper;
 
-    @GetMapping(value = "pagination", params = { "page", "pageSize" })
+    @GetMapping(value = "pagination", params = { "pageSize" })
     @Operation(
             summary = "Get skills with pagination",
             description = "Retrieves a paginated list of skills associated with the user's profile."
     )
-    public List<SkillResponse> getSkills(
+    public CursorPageResponse<SkillResponse> getSkills(
             Authentication authentication,
-            @Parameter(description = "Page number (starts at 0)", example = "0")
-            @RequestParam(value = "page", defaultValue = "0", required = false) int page,
+            @Parameter(description = "Continuation token returned as \'Next cursor\' by the previous page; omit it for the first page")
+            @RequestParam(value = "cursor", required = false) String cursor,
             @Parameter(description = "Number of skills per page", example = "10")
             @RequestParam(value = "pageSize", defaultValue = "10", required = false) int pageSize) {
 
-        if (page < 0 || pageSize < 0 || (page == 0 && pageSize == 0)) {
+        if (pageSize <= 0) {
             throw new IllegalArgumentException(
-                    "Invalid pagination parameters: page and pageSize cannot be negative and cannot both be 0.");
+                    "Invalid pagination parameters: pageSize must be greater than 0.");
         }
 
         var user = authHelper.getAuthenticatedUser(authentication);
-        return skillService.findByUserId(user.getId(), page, pageSize);
+        return skillService.findByUserId(user.getId(), cursor, pageSize);
     }
 
     @PostMapping
@@ -1,14 +1,17 @@
 package compass.career.careercompass.controller;
 
 import compass.career.careercompass.dto.*;
+import compass.career.careercompass.service.RecommendationJobService;
 import compass.career.careercompass.service.SpecializationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.URI;
 import java.util.List;
@@ -21,6 +24,7 @@ import java.util.List;
 public class SpecializationController {
 
     private final SpecializationService specializationService;
+    private final RecommendationJobService recommendationJobService;
     private final AuthenticationHelper authHelper;
 
     @PostMapping("/recommendations")
@@ -33,6 +37,40 @@ public class SpecializationController {
         return specializationService.getRecommendedSpecializations(user.getId());
     }
 
+    @PostMapping("/recommendations/jobs")
+    @Operation(
+            summary = "Start an asynchronous specialization recommendation job",
+            description = "Queues the generation of specialization recommendations and returns immediately with 202 Accepted and the job id. The result can be obtained by polling the job status endpoint or by subscribing to its server-sent events stream. If the user already has a job in progress, that job is returned."
+    )
+    public ResponseEntity<RecommendationJobResponse> startRecommendationJob(Authentication authentication) {
+        var user = authHelper.getAuthenticatedUser(authentication);
+        RecommendationJobResponse response = recommendationJobService.submitSpecializationJob(user.getId());
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/v1/specializations/recommendations/jobs/" + response.getJobId()))
+                .body(response);
+    }
+
+    @GetMapping("/recommendations/jobs/{jobId}")
+    @Operation(
+            summary = "Get the status of a specialization recommendation job",
+            description = "Returns the job status (PENDING, RUNNING, COMPLETED or FAILED). When the job is completed the recommendations are included in the result."
+    )
+    public RecommendationJobResponse getRecommendationJob(Authentication authentication, @PathVariable String jobId) {
+        var user = authHelper.getAuthenticatedUser(authentication);
+        return recommendationJobService.getJob(user.getId(), RecommendationJobService.SPECIALIZATION, jobId);
+    }
+
+    @GetMapping(value = "/recommendations/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Subscribe to a specialization recommendation job",
+            description = "Opens a server-sent events stream that emits a single 'completed' or 'failed' event with the job result once it finishes."
+    )
+    public SseEmitter subscribeToRecommendationJob(Authentication authentication, @PathVariable String jobId) {
+        var user = authHelper.getAuthenticatedUser(authentication);
+        return recommendationJobService.subscribe(user.getId(), RecommendationJobService.SPECIALIZATION, jobId);
+    }
+
     @GetMapping("/details/{specializationId}")
     @Operation(
             summary = "Get complete specialization details",
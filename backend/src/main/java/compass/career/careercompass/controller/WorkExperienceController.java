@@ -1,6 +1,7 @@
 package compass.career.careercompass.controller;
 
 import compass.career.careercompass.dto.WorkExperienceRequest;
+import compass.career.careercompass.dto.CursorPageResponse;
 import compass.career.careercompass.dto.WorkExperienceResponse;
 import compass.career.careercompass.service.WorkExperienceService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,7 +14,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/work-experience")
@@ -25,25 +25,25 @@ public class WorkExperienceController {
     private final WorkExperienceService workExperienceService;
     private final AuthenticationHelper authHelper;
 
-    @GetMapping(value = "pagination", params = { "page", "pageSize" })
+    @GetMapping(value = "pagination", params = { "pageSize" })
     @Operation(
             summary = "Get work experience with pagination",
             description = "Retrieves the authenticated user's work experience history in a paginated manner."
     )
-    public List<WorkExperienceResponse> getWorkExperience(
+    public CursorPageResponse<WorkExperienceResponse> getWorkExperience(
             Authentication authentication,
-            @Parameter(description = "Page number (starts at 0)", example = "0")
-            @RequestParam(value = "page", defaultValue = "0", required = false) int page,
+            @Parameter(description = "Continuation token returned as \'Next cursor\' by the previous page; omit it for the first page")
+            @RequestParam(value = "cursor", required = false) String cursor,
             @Parameter(description = "Number of records per page", example = "10")
             @RequestParam(value = "pageSize", defaultValue = "10", required = false) int pageSize) {
 
-        if (page < 0 || pageSize < 0 || (page == 0 && pageSize == 0)) {
+        if (pageSize <= 0) {
             throw new IllegalArgumentException(
-                    "Invalid pagination parameters: page and pageSize cannot be negative and cannot both be 0.");
+                    "Invalid pagination parameters: pageSize must be greater than 0.");
         }
 
         var user = authHelper.getAuthenticatedUser(authentication);
-        return workExperienceService.findByUserId(user.getId(), page, pageSize);
+        return workExperienceService.findByUserId(user.getId(), cursor, pageSize);
     }
 
     @PostMapping
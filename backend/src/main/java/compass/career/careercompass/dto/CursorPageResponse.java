@@ -0,0 +1,20 @@
+package compass.career.careercompass.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class CursorPageResponse<T> {
+    @JsonProperty("Items")
+    List<T> items;
+
+    @JsonProperty("Next cursor")
+    String nextCursor;
+
+    @JsonProperty("Has more")
+    boolean hasMore;
+}
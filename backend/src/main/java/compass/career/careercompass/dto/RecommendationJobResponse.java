@@ -0,0 +1,32 @@
+package compass.career.careercompass.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+@Builder
+public class RecommendationJobResponse {
+    @JsonProperty("Job Id")
+    String jobId;
+
+    @JsonProperty("Type")
+    String type;
+
+    @JsonProperty("Status")
+    String status;
+
+    @JsonProperty("Created at")
+    LocalDateTime createdAt;
+
+    @JsonProperty("Finished at")
+    LocalDateTime finishedAt;
+
+    @JsonProperty("Result")
+    Object result;
+
+    @JsonProperty("Error")
+    String error;
+}
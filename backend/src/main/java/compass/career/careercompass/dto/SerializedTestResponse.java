@@ -0,0 +1,13 @@
+package compass.career.careercompass.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Test ya serializado a JSON (mismo formato que {@link TestResponse}).
+ */
+@Value
+@Builder
+public class SerializedTestResponse {
+    byte[] json;
+}
@@ -4,6 +4,7 @@ import compass.career.careercompass.dto.AcademicInformationRequest;
 import compass.career.careercompass.dto.AcademicInformationResponse;
 import compass.career.careercompass.model.AcademicInformation;
 import compass.career.careercompass.model.User;
+import compass.career.careercompass.repository.AcademicInformationRepository;
 
 public final class AcademicInformationMapper {
 
@@ -22,6 +23,21 @@ public final class AcademicInformationMapper {
                 .build();
     }
 
+    public static AcademicInformationResponse toResponse(AcademicInformationRepository.AcademicInformationView view) {
+        if (view == null)
+            return null;
+
+        return AcademicInformationResponse.builder()
+                .id(view.getId())
+                .institution(view.getInstitution())
+                .career(view.getCareer())
+                .average(view.getAverage())
+                .startDate(view.getStartDate())
+                .endDate(view.getEndDate())
+                .inProgress(view.getInProgress())
+                .build();
+    }
+
     public static AcademicInformation toEntity(AcademicInformationRequest dto, User user) {
         if (dto == null || user == null)
             return null;
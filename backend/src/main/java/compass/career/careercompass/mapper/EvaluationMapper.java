@@ -1,15 +1,11 @@
 package compass.career.careercompass.mapper;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import compass.career.careercompass.dto.EvaluationHistoryResponse;
 import compass.career.careercompass.dto.EvaluationResultResponse;
 import compass.career.careercompass.model.CompletedEvaluation;
 
 public final class EvaluationMapper {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-
     public static EvaluationHistoryResponse toHistoryResponse(CompletedEvaluation entity) {
         if (entity == null)
             return null;
@@ -27,17 +23,8 @@ public final class EvaluationMapper {
         if (entity == null)
             return null;
 
-        Object resultDetails = null;
-        if (entity.getEvaluationResult() != null) {
-            try {
-                resultDetails = objectMapper.readValue(
-                        entity.getEvaluationResult().getResultJson(),
-                        Object.class
-                );
-            } catch (JsonProcessingException e) {
-                resultDetails = entity.getEvaluationResult().getResultJson();
-            }
-        }
+        Object resultDetails = entity.getEvaluationResult() != null ?
+                entity.getEvaluationResult().getOutcome() : null;
 
         return EvaluationResultResponse.builder()
                 .evaluationId(entity.getId())
@@ -1,13 +1,21 @@
 package compass.career.careercompass.mapper;
 
 import compass.career.careercompass.dto.CompleteProfileResponse;
-import compass.career.careercompass.model.User;
+import compass.career.careercompass.repository.AcademicInformationRepository;
+import compass.career.careercompass.repository.SkillRepository;
+import compass.career.careercompass.repository.UserRepository;
+import compass.career.careercompass.repository.WorkExperienceRepository;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 public final class ProfileMapper {
 
-    public static CompleteProfileResponse toCompleteProfileResponse(User user) {
+    public static CompleteProfileResponse toCompleteProfileResponse(
+            UserRepository.ProfileView user,
+            List<AcademicInformationRepository.AcademicInformationView> academicInformation,
+            List<WorkExperienceRepository.WorkExperienceView> workExperience,
+            List<SkillRepository.SkillView> skills) {
         if (user == null)
             return null;
 
@@ -18,19 +26,16 @@ public final class ProfileMapper {
                 .birthDate(user.getBirthDate())
                 .country(user.getCountry())
                 .city(user.getCity())
-                .role(user.getRole().getName())
-                .academicInformation(user.getAcademicInformations() != null ?
-                        user.getAcademicInformations().stream()
-                                .map(AcademicInformationMapper::toResponse)
-                                .collect(Collectors.toList()) : null)
-                .workExperience(user.getWorkExperiences() != null ?
-                        user.getWorkExperiences().stream()
-                                .map(WorkExperienceMapper::toResponse)
-                                .collect(Collectors.toList()) : null)
-                .skills(user.getSkills() != null ?
-                        user.getSkills().stream()
-                                .map(SkillMapper::toResponse)
-                                .collect(Collectors.toList()) : null)
+                .role(user.getRoleName())
+                .academicInformation(academicInformation.stream()
+                        .map(AcademicInformationMapper::toResponse)
+                        .collect(Collectors.toList()))
+                .workExperience(workExperience.stream()
+                        .map(WorkExperienceMapper::toResponse)
+                        .collect(Collectors.toList()))
+                .skills(skills.stream()
+                        .map(SkillMapper::toResponse)
+                        .collect(Collectors.toList()))
                 .build();
     }
 }
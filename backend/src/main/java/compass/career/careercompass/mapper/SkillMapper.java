@@ -4,6 +4,7 @@ import compass.career.careercompass.dto.SkillRequest;
 import compass.career.careercompass.dto.SkillResponse;
 import compass.career.careercompass.model.Skill;
 import compass.career.careercompass.model.User;
+import compass.career.careercompass.repository.SkillRepository;
 
 public final class SkillMapper {
 
@@ -18,6 +19,17 @@ public final class SkillMapper {
                 .build();
     }
 
+    public static SkillResponse toResponse(SkillRepository.SkillView view) {
+        if (view == null)
+            return null;
+
+        return SkillResponse.builder()
+                .id(view.getId())
+                .skillName(view.getSkillName())
+                .proficiencyLevel(view.getProficiencyLevel())
+                .build();
+    }
+
     public static Skill toEntity(SkillRequest dto, User user) {
         if (dto == null || user == null)
             return null;
@@ -4,6 +4,7 @@ import compass.career.careercompass.dto.WorkExperienceRequest;
 import compass.career.careercompass.dto.WorkExperienceResponse;
 import compass.career.careercompass.model.User;
 import compass.career.careercompass.model.WorkExperience;
+import compass.career.careercompass.repository.WorkExperienceRepository;
 
 public final class WorkExperienceMapper {
 
@@ -22,6 +23,21 @@ public final class WorkExperienceMapper {
                 .build();
     }
 
+    public static WorkExperienceResponse toResponse(WorkExperienceRepository.WorkExperienceView view) {
+        if (view == null)
+            return null;
+
+        return WorkExperienceResponse.builder()
+                .id(view.getId())
+                .company(view.getCompany())
+                .position(view.getPosition())
+                .description(view.getDescription())
+                .startDate(view.getStartDate())
+                .endDate(view.getEndDate())
+                .currentJob(view.getCurrentJob())
+                .build();
+    }
+
     public static WorkExperience toEntity(WorkExperienceRequest dto, User user) {
         if (dto == null || user == null)
             return null;
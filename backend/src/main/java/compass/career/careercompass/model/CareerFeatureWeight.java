@@ -0,0 +1,37 @@
+package compass.career.careercompass.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Peso de un rasgo del perfil del estudiante para una carrera. El rasgo usa el formato
+ * {@code vocational:<área>}, {@code cognitive:<área>} o {@code personality:<dimensión>}.
+ */
+@Entity
+@Table(name = "career_feature_weights", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"career_id", "feature"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CareerFeatureWeight {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Integer id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "career_id", nullable = false)
+    private Career career;
+
+    @Column(name = "feature", nullable = false, length = 150)
+    private String feature;
+
+    @Column(name = "weight", nullable = false, precision = 5, scale = 2)
+    private BigDecimal weight;
+}
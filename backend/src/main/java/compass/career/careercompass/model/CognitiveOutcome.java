@@ -0,0 +1,15 @@
+package compass.career.careercompass.model;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Resultado del test de habilidades cognitivas: puntaje (0-100) y nivel de cada área, y el
+ * nivel general.
+ */
+public record CognitiveOutcome(Map<String, AreaLevel> cognitiveAreas,
+                               String overallLevel) implements EvaluationOutcome {
+
+    public record AreaLevel(BigDecimal score, String level) {
+    }
+}
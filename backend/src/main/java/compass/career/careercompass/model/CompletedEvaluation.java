@@ -10,14 +10,17 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "completed_evaluations")
+@Table(name = "completed_evaluations", indexes = {
+        @Index(name = "idx_completed_evaluations_user_date", columnList = "user_id, completion_date DESC")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class CompletedEvaluation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "completed_evaluations_seq")
+    @SequenceGenerator(name = "completed_evaluations_seq", sequenceName = "completed_evaluations_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Integer id;
 
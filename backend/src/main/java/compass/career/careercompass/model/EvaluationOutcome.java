@@ -0,0 +1,21 @@
+package compass.career.careercompass.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Resultado ya interpretado de una evaluación, guardado en la columna JSONB
+ * {@code evaluation_results.result_json}. El tipo se deduce de las propiedades del JSON
+ * ({@code dimensions}, {@code topAreas} o {@code cognitiveAreas}), así las filas existentes
+ * se leen sin un campo discriminador.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.DEDUCTION)
+@JsonSubTypes({
+        @JsonSubTypes.Type(PersonalityOutcome.class),
+        @JsonSubTypes.Type(VocationalOutcome.class),
+        @JsonSubTypes.Type(CognitiveOutcome.class)
+})
+@JsonIgnoreProperties(ignoreUnknown = true)
+public sealed interface EvaluationOutcome permits PersonalityOutcome, VocationalOutcome, CognitiveOutcome {
+}
@@ -25,5 +25,9 @@ public class EvaluationResult {
 
     @Column(name = "result_json", nullable = false, columnDefinition = "JSONB")
     @JdbcTypeCode(SqlTypes.JSON)
-    private String resultJson;
+    private EvaluationOutcome outcome;
+
+    // Copia en Smile o CBOR para lecturas internas; null si la codificación binaria está desactivada
+    @Column(name = "result_binary")
+    private byte[] resultBinary;
 }
@@ -0,0 +1,36 @@
+package compass.career.careercompass.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Respuesta de Groq guardada por huella del perfil (resultados de los tests cuantizados)
+ * y versión del catálogo de carreras.
+ */
+@Entity
+@Table(name = "llm_response_cache")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LlmResponseCacheEntry {
+
+    @Id
+    @Column(name = "fingerprint", length = 64)
+    private String fingerprint;
+
+    @Column(name = "catalog_version", nullable = false, length = 64)
+    private String catalogVersion;
+
+    @Column(name = "response_json", nullable = false, columnDefinition = "JSONB")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private String responseJson;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,15 @@
+package compass.career.careercompass.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado del test de personalidad: dimensiones (0-100), descripción, rasgos principales
+ * y la respuesta original del análisis de sentimiento de Azure.
+ */
+public record PersonalityOutcome(Map<String, Double> dimensions,
+                                 String description,
+                                 List<String> keyTraits,
+                                 Map<String, Object> sentimentAnalysis,
+                                 List<String> keyPhrases) implements EvaluationOutcome {
+}
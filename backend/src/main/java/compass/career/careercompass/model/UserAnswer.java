@@ -15,7 +15,8 @@ import lombok.NoArgsConstructor;
 public class UserAnswer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_answers_seq")
+    @SequenceGenerator(name = "user_answers_seq", sequenceName = "user_answers_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Integer id;
 
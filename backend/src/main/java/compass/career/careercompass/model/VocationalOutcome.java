@@ -0,0 +1,15 @@
+package compass.career.careercompass.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Resultado del test de intereses vocacionales: las áreas con mayor porcentaje, de mayor a
+ * menor, y una recomendación por área.
+ */
+public record VocationalOutcome(List<AreaPercentage> topAreas,
+                                List<String> recommendations) implements EvaluationOutcome {
+
+    public record AreaPercentage(String area, BigDecimal percentage) {
+    }
+}
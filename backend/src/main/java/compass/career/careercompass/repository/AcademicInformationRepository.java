@@ -2,12 +2,29 @@ package compass.career.careercompass.repository;
 
 import compass.career.careercompass.model.AcademicInformation;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 public interface AcademicInformationRepository extends JpaRepository<AcademicInformation, Integer> {
-    List<AcademicInformation> findByUserId(Integer userId, Pageable pageable);
+    // Keyset: registros con id mayor al del cursor, sin consulta de conteo
+    Slice<AcademicInformation> findByUserIdAndIdGreaterThanOrderByIdAsc(Integer userId, Integer id, Pageable pageable);
     Optional<AcademicInformation> findByIdAndUserId(Integer id, Integer userId);
+
+    // Proyección para el perfil completo: solo las columnas de la respuesta, en una consulta
+    List<AcademicInformationView> findViewsByUserIdOrderById(Integer userId);
+
+    interface AcademicInformationView {
+        Integer getId();
+        String getInstitution();
+        String getCareer();
+        BigDecimal getAverage();
+        LocalDate getStartDate();
+        LocalDate getEndDate();
+        Boolean getInProgress();
+    }
 }
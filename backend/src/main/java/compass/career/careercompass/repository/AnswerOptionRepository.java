@@ -2,6 +2,13 @@ package compass.career.careercompass.repository;
 
 import compass.career.careercompass.model.AnswerOption;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface AnswerOptionRepository extends JpaRepository<AnswerOption, Integer> {
+
+    @Query("SELECT DISTINCT o.category FROM AnswerOption o WHERE o.question.test.testType.name = :testTypeName AND o.category IS NOT NULL")
+    List<String> findDistinctCategoriesByTestTypeName(@Param("testTypeName") String testTypeName);
 }
@@ -0,0 +1,7 @@
+package compass.career.careercompass.repository;
+
+import compass.career.careercompass.model.CareerFeatureWeight;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CareerFeatureWeightRepository extends JpaRepository<CareerFeatureWeight, Integer> {
+}
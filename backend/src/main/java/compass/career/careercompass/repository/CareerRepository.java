@@ -1,7 +1,21 @@
 package compass.career.careercompass.repository;
 
 import compass.career.careercompass.model.Career;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CareerRepository extends JpaRepository<Career, Integer> {
+
+    // Primera página del catálogo ordenado por (nombre, id), sin consulta de conteo
+    Slice<Career> findAllByOrderByNameAscIdAsc(Pageable pageable);
+
+    /**
+     * Carreras después de la llave (nombre, id) del cursor. La comparación de tuplas recorre
+     * el índice (name, id) desde la llave, sin OFFSET.
+     */
+    @Query("SELECT c FROM Career c WHERE (c.name, c.id) > (:name, :id) ORDER BY c.name ASC, c.id ASC")
+    Slice<Career> findAfter(@Param("name") String name, @Param("id") Integer id, Pageable pageable);
 }
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +14,35 @@ public interface CompletedEvaluationRepository extends JpaRepository<CompletedEv
 
     @Query("SELECT ce FROM CompletedEvaluation ce JOIN FETCH ce.test t JOIN FETCH t.testType WHERE ce.id = :id AND ce.user.id = :userId")
     Optional<CompletedEvaluation> findByIdAndUserId(@Param("id") Integer id, @Param("userId") Integer userId);
-}
\ No newline at end of file
+
+    /**
+     * Resultado de la evaluación más reciente del usuario para cada tipo de test, en una sola
+     * consulta. Cada tipo recorre el índice (user_id, completion_date DESC) desde la evaluación
+     * más nueva y se detiene en la primera de ese tipo, así el costo no depende del historial.
+     * Si hay copia binaria del resultado solo se devuelve {@code resultBinary}; ambos son null si
+     * esa evaluación no tiene resultado.
+     */
+    @Query(value = "SELECT tt.name AS testType, latest.id AS evaluationId, " +
+            "CASE WHEN latest.result_binary IS NULL THEN CAST(latest.result_json AS TEXT) END AS resultJson, " +
+            "latest.result_binary AS resultBinary " +
+            "FROM test_types tt " +
+            "CROSS JOIN LATERAL (" +
+            "    SELECT ce.id, er.result_json, er.result_binary " +
+            "    FROM completed_evaluations ce " +
+            "    JOIN tests t ON t.id = ce.test_id " +
+            "    LEFT JOIN evaluation_results er ON er.evaluation_id = ce.id " +
+            "    WHERE ce.user_id = :userId AND t.test_type_id = tt.id " +
+            "    ORDER BY ce.completion_date DESC " +
+            "    LIMIT 1" +
+            ") latest " +
+            "WHERE tt.name IN (:testTypes)", nativeQuery = true)
+    List<LatestResult> findLatestResultsByUserId(@Param("userId") Integer userId,
+                                                 @Param("testTypes") Collection<String> testTypes);
+
+    interface LatestResult {
+        String getTestType();
+        Integer getEvaluationId();
+        String getResultJson();
+        byte[] getResultBinary();
+    }
+}
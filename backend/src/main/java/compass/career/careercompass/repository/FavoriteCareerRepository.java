@@ -2,13 +2,14 @@ package compass.career.careercompass.repository;
 
 import compass.career.careercompass.model.FavoriteCareer;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.List;
 import java.util.Optional;
 
 public interface FavoriteCareerRepository extends JpaRepository<FavoriteCareer, Integer> {
-    List<FavoriteCareer> findByUserIdAndActiveTrue(Integer userId, Pageable pageable);
+    // Keyset: favoritas activas con id mayor al del cursor, sin consulta de conteo
+    Slice<FavoriteCareer> findByUserIdAndActiveTrueAndIdGreaterThanOrderByIdAsc(Integer userId, Integer id, Pageable pageable);
     Optional<FavoriteCareer> findByUserIdAndCareerId(Integer userId, Integer careerId);
     long countByUserIdAndActiveTrue(Integer userId);
 }
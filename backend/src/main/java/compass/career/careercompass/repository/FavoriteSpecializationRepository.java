@@ -2,13 +2,14 @@ package compass.career.careercompass.repository;
 
 import compass.career.careercompass.model.FavoriteSpecialization;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.List;
 import java.util.Optional;
 
 public interface FavoriteSpecializationRepository extends JpaRepository<FavoriteSpecialization, Integer> {
-    List<FavoriteSpecialization> findByUserIdAndActiveTrue(Integer userId, Pageable pageable);
+    // Keyset: favoritas activas con id mayor al del cursor, sin consulta de conteo
+    Slice<FavoriteSpecialization> findByUserIdAndActiveTrueAndIdGreaterThanOrderByIdAsc(Integer userId, Integer id, Pageable pageable);
     Optional<FavoriteSpecialization> findByUserIdAndSpecializationAreaId(Integer userId, Integer specializationAreaId);
     long countByUserIdAndActiveTrue(Integer userId);
 }
@@ -0,0 +1,32 @@
+package compass.career.careercompass.repository;
+
+import compass.career.careercompass.model.LlmResponseCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface LlmResponseCacheRepository extends JpaRepository<LlmResponseCacheEntry, String> {
+
+    // Dos usuarios con la misma huella pueden guardar a la vez: gana el último
+    @Modifying
+    @Query(value = "INSERT INTO llm_response_cache (fingerprint, catalog_version, response_json, created_at) " +
+            "VALUES (:fingerprint, :catalogVersion, CAST(:responseJson AS JSONB), :createdAt) " +
+            "ON CONFLICT (fingerprint) DO UPDATE SET catalog_version = EXCLUDED.catalog_version, " +
+            "response_json = EXCLUDED.response_json, created_at = EXCLUDED.created_at", nativeQuery = true)
+    void upsert(@Param("fingerprint") String fingerprint,
+                @Param("catalogVersion") String catalogVersion,
+                @Param("responseJson") String responseJson,
+                @Param("createdAt") LocalDateTime createdAt);
+
+    // Una versión es anterior a la vigente si sus filas empezaron antes que las de la vigente. Así un
+    // nodo que aún no ve el catálogo nuevo no borra lo que escribieron los nodos que sí lo ven
+    @Modifying
+    @Query("DELETE FROM LlmResponseCacheEntry e WHERE e.createdAt < :createdBefore " +
+            "OR e.catalogVersion IN (SELECT o.catalogVersion FROM LlmResponseCacheEntry o " +
+            "GROUP BY o.catalogVersion HAVING MIN(o.createdAt) < (SELECT MIN(c.createdAt) " +
+            "FROM LlmResponseCacheEntry c WHERE c.catalogVersion = :catalogVersion))")
+    int deleteStale(@Param("catalogVersion") String catalogVersion, @Param("createdBefore") LocalDateTime createdBefore);
+}
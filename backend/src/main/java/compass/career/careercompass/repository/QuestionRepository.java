@@ -5,13 +5,16 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface QuestionRepository extends JpaRepository<Question, Integer> {
 
-    @Query(value = "SELECT * FROM questions q WHERE q.test_id = :testId AND q.active = true ORDER BY RANDOM() LIMIT :limit",
-            nativeQuery = true)
-    List<Question> findRandomActiveQuestionsByTestId(@Param("testId") Integer testId, @Param("limit") Integer limit);
-
     List<Question> findByTestIdAndActiveTrue(Integer testId);
+
+    @Query("SELECT DISTINCT q FROM Question q LEFT JOIN FETCH q.answerOptions WHERE q.test.id = :testId AND q.active = true ORDER BY q.id")
+    List<Question> findActiveWithOptionsByTestId(@Param("testId") Integer testId);
+
+    @Query("SELECT DISTINCT q FROM Question q LEFT JOIN FETCH q.answerOptions WHERE q.id IN :ids")
+    List<Question> findAllWithOptionsByIdIn(@Param("ids") Collection<Integer> ids);
 }
@@ -2,10 +2,29 @@ package compass.career.careercompass.repository;
 
 import compass.career.careercompass.model.Session;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface SessionRepository extends JpaRepository<Session, Integer> {
     Optional<Session> findByTokenAndActiveTrue(String token);
     Optional<Session> findByToken(String token);
+
+    @Query("SELECT s.active FROM Session s WHERE s.token = :token")
+    Optional<Boolean> findActiveByToken(@Param("token") String token);
+
+    @Query("SELECT s.token FROM Session s WHERE s.active = false AND s.deactivatedAt > :since")
+    List<String> findTokensDeactivatedSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("UPDATE Session s SET s.active = false, s.deactivatedAt = :now WHERE s.token = :token AND s.active = true")
+    int deactivateByToken(@Param("token") String token, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Session s SET s.active = false, s.deactivatedAt = :now WHERE s.user.id = :userId AND s.active = true")
+    int deactivateByUserId(@Param("userId") Integer userId, @Param("now") LocalDateTime now);
 }
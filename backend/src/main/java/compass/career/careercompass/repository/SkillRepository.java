@@ -2,6 +2,7 @@ package compass.career.careercompass.repository;
 
 import compass.career.careercompass.model.Skill;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -9,8 +10,18 @@ import java.util.Optional;
 
 public interface SkillRepository extends JpaRepository<Skill, Integer> {
     List<Skill> findByUserId(Integer userId);
-    List<Skill> findByUserId(Integer userId, Pageable pageable);
+    // Keyset: habilidades con id mayor al del cursor, sin consulta de conteo
+    Slice<Skill> findByUserIdAndIdGreaterThanOrderByIdAsc(Integer userId, Integer id, Pageable pageable);
     Optional<Skill> findByIdAndUserId(Integer id, Integer userId);
     Optional<Skill> findByUserIdAndSkillName(Integer userId, String skillName);
     long countByUserId(Integer userId);
+
+    // Proyección para el perfil completo: solo las columnas de la respuesta, en una consulta
+    List<SkillView> findViewsByUserIdOrderById(Integer userId);
+
+    interface SkillView {
+        Integer getId();
+        String getSkillName();
+        Integer getProficiencyLevel();
+    }
 }
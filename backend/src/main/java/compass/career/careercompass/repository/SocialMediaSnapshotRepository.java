@@ -0,0 +1,27 @@
+package compass.career.careercompass.repository;
+
+import compass.career.careercompass.model.SocialMediaSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface SocialMediaSnapshotRepository extends JpaRepository<SocialMediaSnapshot, Integer> {
+    Optional<SocialMediaSnapshot> findByEntityTypeAndEntityId(String entityType, Integer entityId);
+
+    // Dos nodos (o la carga en segundo plano y el recorrido) pueden guardar la misma entrada a la vez
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO social_media_snapshots (entity_type, entity_id, data_json, refreshed_at) " +
+            "VALUES (:entityType, :entityId, CAST(:dataJson AS JSONB), :refreshedAt) " +
+            "ON CONFLICT (entity_type, entity_id) DO UPDATE SET data_json = EXCLUDED.data_json, " +
+            "refreshed_at = EXCLUDED.refreshed_at", nativeQuery = true)
+    void upsert(@Param("entityType") String entityType,
+                @Param("entityId") Integer entityId,
+                @Param("dataJson") String dataJson,
+                @Param("refreshedAt") LocalDateTime refreshedAt);
+}
@@ -2,10 +2,32 @@ package compass.career.careercompass.repository;
 
 import compass.career.careercompass.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    /**
+     * Datos del usuario para el perfil completo, con el nombre del rol, sin cargar la entidad
+     * (ni sus asociaciones EAGER de credencial y rol).
+     */
+    @Query("SELECT u.id AS id, u.name AS name, u.email AS email, u.birthDate AS birthDate, " +
+            "u.country AS country, u.city AS city, r.name AS roleName " +
+            "FROM User u JOIN u.role r WHERE u.id = :userId")
+    Optional<ProfileView> findProfileById(@Param("userId") Integer userId);
+
+    interface ProfileView {
+        Integer getId();
+        String getName();
+        String getEmail();
+        LocalDate getBirthDate();
+        String getCountry();
+        String getCity();
+        String getRoleName();
+    }
 }
\ No newline at end of file
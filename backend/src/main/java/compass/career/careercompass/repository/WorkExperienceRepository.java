@@ -2,12 +2,28 @@ package compass.career.careercompass.repository;
 
 import compass.career.careercompass.model.WorkExperience;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 public interface WorkExperienceRepository extends JpaRepository<WorkExperience, Integer> {
-    List<WorkExperience> findByUserId(Integer userId, Pageable pageable);
+    // Keyset: registros con id mayor al del cursor, sin consulta de conteo
+    Slice<WorkExperience> findByUserIdAndIdGreaterThanOrderByIdAsc(Integer userId, Integer id, Pageable pageable);
     Optional<WorkExperience> findByIdAndUserId(Integer id, Integer userId);
+
+    // Proyección para el perfil completo: solo las columnas de la respuesta, en una consulta
+    List<WorkExperienceView> findViewsByUserIdOrderById(Integer userId);
+
+    interface WorkExperienceView {
+        Integer getId();
+        String getCompany();
+        String getPosition();
+        String getDescription();
+        LocalDate getStartDate();
+        LocalDate getEndDate();
+        Boolean getCurrentJob();
+    }
 }
@@ -1,6 +1,7 @@
 package compass.career.careercompass.service;
 
 import compass.career.careercompass.dto.AcademicInformationRequest;
+import compass.career.careercompass.dto.CursorPageResponse;
 import compass.career.careercompass.dto.AcademicInformationResponse;
 import compass.career.careercompass.mapper.AcademicInformationMapper;
 import compass.career.careercompass.model.AcademicInformation;
@@ -10,13 +11,9 @@ import compass.career.careercompass.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -78,17 +75,18 @@ public class AcademicInformationServiceImpl implements AcademicInformationServic
 
     @Override
     @Transactional(readOnly = true)
-    public List<AcademicInformationResponse> findByUserId(Integer userId, int page, int pageSize) {
-        log.debug("Finding academic information for user {} with pagination - page: {}, pageSize: {}",
-                userId, page, pageSize);
+    public CursorPageResponse<AcademicInformationResponse> findByUserId(Integer userId, String cursor, int pageSize) {
+        log.debug("Finding academic information for user {} after cursor {} - pageSize: {}",
+                userId, cursor, pageSize);
 
-        Pageable pageable = PageRequest.of(page, pageSize);
+        KeysetCursor after = KeysetCursor.decode(cursor);
 
-        List<AcademicInformationResponse> academicInfo = repository.findByUserId(userId, pageable).stream()
-                .map(AcademicInformationMapper::toResponse)
-                .collect(Collectors.toList());
+        CursorPageResponse<AcademicInformationResponse> academicInfo = KeysetCursor.toResponse(
+                repository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, after.id(), KeysetCursor.firstPage(pageSize)),
+                AcademicInformationMapper::toResponse,
+                a -> new KeysetCursor(null, a.getId()));
 
-        if (academicInfo.isEmpty()) {
+        if (academicInfo.getItems().isEmpty() && after.isStart()) {
             throw new IllegalArgumentException("There is no academic information recorded for this user.");
         }
 
@@ -8,5 +8,6 @@ public interface AuthService {
     LoginResponse login(LoginRequest request);
     void requestPasswordRecovery(PasswordRecoveryRequest request);
     void changePassword(Integer userId, ChangePasswordRequest request);
+    void logout(String token);
     User updateProfile(Integer userId, UpdateProfileRequest request);
 }
\ No newline at end of file
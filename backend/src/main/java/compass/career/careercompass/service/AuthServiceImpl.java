@@ -1,5 +1,6 @@
 package compass.career.careercompass.service;
 
+import compass.career.careercompass.configuration.AuthenticatedUser;
 import compass.career.careercompass.dto.*;
 import compass.career.careercompass.mapper.AuthMapper;
 import compass.career.careercompass.model.*;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.Period;
 
 @Service
@@ -29,6 +31,8 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final TokenRevocationList tokenRevocationList;
+    private final SessionRepository sessionRepository;
 
     @Override
     @Transactional
@@ -63,7 +67,8 @@ public class AuthServiceImpl implements AuthService {
         user = userRepository.save(user);
 
         // Generar token JWT
-        String jwtToken = jwtService.generateToken(credential);
+        String jwtToken = jwtService.generateToken(user);
+        createSession(user, jwtToken);
 
         return AuthMapper.toLoginResponse(user, jwtToken);
     }
@@ -84,7 +89,8 @@ public class AuthServiceImpl implements AuthService {
                 .orElseThrow(() -> new EntityNotFoundException("Invalid credentials"));
 
         // Generar token JWT
-        String jwtToken = jwtService.generateToken(user.getCredential());
+        String jwtToken = jwtService.generateToken(user);
+        createSession(user, jwtToken);
 
         return AuthMapper.toLoginResponse(user, jwtToken);
     }
@@ -121,6 +127,31 @@ public class AuthServiceImpl implements AuthService {
         Credential credential = user.getCredential();
         credential.setPassword(passwordEncoder.encode(request.getNewPassword()));
         credentialRepository.save(credential);
+
+        // Invalidar los tokens emitidos con la contraseña anterior (en los demás nodos, vía sesiones)
+        sessionRepository.deactivateByUserId(userId, LocalDateTime.now());
+        tokenRevocationList.revokeUser(userId);
+    }
+
+    @Override
+    @Transactional
+    public void logout(String token) {
+        AuthenticatedUser user = jwtService.authenticate(token);
+
+        sessionRepository.deactivateByToken(token, LocalDateTime.now());
+        jwtService.evict(token);
+
+        if (user.getTokenId() != null) {
+            tokenRevocationList.revokeToken(user.getTokenId(), user.getExpiresAt());
+        } else {
+            // Tokens sin id (anteriores a los claims): se revocan todos los del usuario. Tampoco
+            // traen "uid", así que el usuario se resuelve por el correo del subject
+            Integer userId = user.getId() != null ? user.getId()
+                    : userRepository.findByEmail(user.getEmail()).map(User::getId).orElse(null);
+            if (userId != null) {
+                tokenRevocationList.revokeUser(userId);
+            }
+        }
     }
 
     @Override
@@ -138,5 +169,11 @@ public class AuthServiceImpl implements AuthService {
         return userRepository.save(user);
     }
 
-
-}
\ No newline at end of file
+    private void createSession(User user, String token) {
+        Session session = new Session();
+        session.setUser(user);
+        session.setToken(token);
+        session.setActive(true);
+        sessionRepository.save(session);
+    }
+}
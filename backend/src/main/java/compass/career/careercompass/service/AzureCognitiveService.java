@@ -1,8 +1,10 @@
 package compass.career.careercompass.service;
 
+import compass.career.careercompass.model.PersonalityOutcome;
+
 import java.util.Map;
 
 public interface AzureCognitiveService {
-    Map<String, Object> analyzePersonality(Map<String, Object> responses);
+    PersonalityOutcome analyzePersonality(Map<String, Object> responses);
     Map<String, Object> analyzeText(String text);
 }
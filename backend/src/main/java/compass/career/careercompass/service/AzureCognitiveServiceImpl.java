@@ -1,7 +1,12 @@
 package compass.career.careercompass.service;
 
-import lombok.RequiredArgsConstructor;
+import compass.career.careercompass.model.PersonalityOutcome;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -13,12 +18,22 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class AzureCognitiveServiceImpl implements AzureCognitiveService {
 
+    private static final String SENTIMENT_ANALYSIS = "SentimentAnalysis";
+    private static final String KEY_PHRASE_EXTRACTION = "KeyPhraseExtraction";
+
     private final RestTemplate restTemplate;
+    private final TaskExecutor azureExecutor;
+    private final MeterRegistry meterRegistry;
+    private final UpstreamGuard upstreamGuard;
 
     @Value("${azure.cognitive.endpoint}")
     private String azureEndpoint;
@@ -26,17 +41,35 @@ public class AzureCognitiveServiceImpl implements AzureCognitiveService {
     @Value("${azure.cognitive.api-key}")
     private String azureApiKey;
 
+    // Tiempo máximo de espera conjunto para sentimiento y frases clave
+    @Value("${azure.cognitive.timeout-ms:5000}")
+    private long analysisTimeoutMs;
+
+    public AzureCognitiveServiceImpl(RestTemplate restTemplate,
+                                     @Qualifier("azureExecutor") TaskExecutor azureExecutor,
+                                     MeterRegistry meterRegistry,
+                                     UpstreamGuard upstreamGuard) {
+        this.restTemplate = restTemplate;
+        this.azureExecutor = azureExecutor;
+        this.meterRegistry = meterRegistry;
+        this.upstreamGuard = upstreamGuard;
+    }
+
     @Override
-    public Map<String, Object> analyzePersonality(Map<String, Object> responses) {
+    public PersonalityOutcome analyzePersonality(Map<String, Object> responses) {
         // Combinar todas las respuestas en un texto
         StringBuilder combinedText = new StringBuilder();
         for (Map.Entry<String, Object> entry : responses.entrySet()) {
             combinedText.append(entry.getValue().toString()).append(". ");
         }
 
-        // Realizar análisis de sentimientos y extracción de frases clave
-        Map<String, Object> sentimentResult = analyzeSentiment(combinedText.toString());
-        Map<String, Object> keyPhrasesResult = extractKeyPhrases(combinedText.toString());
+        // Análisis de sentimientos y extracción de frases clave en paralelo
+        String text = combinedText.toString();
+        CompletableFuture<Map<String, Object>> sentiment = analyzeAsync(SENTIMENT_ANALYSIS, () -> analyzeSentiment(text), this::getDefaultSentimentResult);
+        CompletableFuture<Map<String, Object>> keyPhrases = analyzeAsync(KEY_PHRASE_EXTRACTION, () -> extractKeyPhrases(text), this::getDefaultKeyPhrasesResult);
+
+        Map<String, Object> sentimentResult = sentiment.join();
+        Map<String, Object> keyPhrasesResult = keyPhrases.join();
 
         // Transformar resultados a dimensiones de personalidad
         return transformToPersonalityDimensions(sentimentResult, keyPhrasesResult, responses);
@@ -46,57 +79,67 @@ public class AzureCognitiveServiceImpl implements AzureCognitiveService {
     public Map<String, Object> analyzeText(String text) {
         Map<String, Object> result = new HashMap<>();
 
+        CompletableFuture<Map<String, Object>> sentiment = analyzeAsync(SENTIMENT_ANALYSIS, () -> analyzeSentiment(text), this::getDefaultSentimentResult);
+        CompletableFuture<Map<String, Object>> keyPhrases = analyzeAsync(KEY_PHRASE_EXTRACTION, () -> extractKeyPhrases(text), this::getDefaultKeyPhrasesResult);
+
         // Análisis de sentimientos
-        Map<String, Object> sentimentResult = analyzeSentiment(text);
-        result.put("sentiment", sentimentResult);
+        result.put("sentiment", sentiment.join());
 
         // Extracción de frases clave
-        Map<String, Object> keyPhrasesResult = extractKeyPhrases(text);
-        result.put("keyPhrases", keyPhrasesResult);
+        result.put("keyPhrases", keyPhrases.join());
 
         return result;
     }
 
-    private Map<String, Object> analyzeSentiment(String text) {
-        String url = azureEndpoint + "/language/:analyze-text?api-version=2023-04-01";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Ocp-Apim-Subscription-Key", azureApiKey);
-        headers.set("Content-Type", "application/json");
-
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("kind", "SentimentAnalysis");
-
-        Map<String, Object> analysisInput = new HashMap<>();
-        List<Map<String, Object>> documents = new ArrayList<>();
-        Map<String, Object> document = new HashMap<>();
-        document.put("id", "1");
-        document.put("language", "es");
-        document.put("text", text);
-        documents.add(document);
-        analysisInput.put("documents", documents);
-        requestBody.put("analysisInput", analysisInput);
-
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
+    /**
+     * Ejecuta un análisis en el pool de Azure. Si no termina dentro del timeout, o el pool
+     * está saturado, se usa el resultado por defecto sin bloquear al otro análisis.
+     */
+    private CompletableFuture<Map<String, Object>> analyzeAsync(
+            String kind,
+            Supplier<Map<String, Object>> analysis,
+            Supplier<Map<String, Object>> fallback) {
         try {
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    entity,
-                    Map.class
-            );
+            return CompletableFuture.supplyAsync(analysis, azureExecutor)
+                    .completeOnTimeout(null, analysisTimeoutMs, TimeUnit.MILLISECONDS)
+                    .thenApply(result -> {
+                        if (result != null) {
+                            return result;
+                        }
+                        log.warn("Azure {} timed out after {} ms, using default result", kind, analysisTimeoutMs);
+                        countFallback(kind, "timeout");
+                        return fallback.get();
+                    });
+        } catch (RejectedExecutionException e) {
+            log.warn("Azure executor saturated, using default {} result", kind);
+            countFallback(kind, "rejected");
+            return CompletableFuture.completedFuture(fallback.get());
+        }
+    }
 
-            return response.getBody();
+    private void countFallback(String kind, String reason) {
+        meterRegistry.counter("azure.text-analytics.fallbacks", "kind", kind, "reason", reason).increment();
+    }
 
+    private Map<String, Object> analyzeSentiment(String text) {
+        try {
+            return callAnalyzeText(SENTIMENT_ANALYSIS, text);
         } catch (Exception e) {
-            System.err.println("Error analyzing sentiment with Azure: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("Error analyzing sentiment with Azure: {}", e.getMessage());
             return getDefaultSentimentResult();
         }
     }
 
     private Map<String, Object> extractKeyPhrases(String text) {
+        try {
+            return callAnalyzeText(KEY_PHRASE_EXTRACTION, text);
+        } catch (Exception e) {
+            log.warn("Error extracting key phrases with Azure: {}", e.getMessage());
+            return getDefaultKeyPhrasesResult();
+        }
+    }
+
+    private Map<String, Object> callAnalyzeText(String kind, String text) throws Exception {
         String url = azureEndpoint + "/language/:analyze-text?api-version=2023-04-01";
 
         HttpHeaders headers = new HttpHeaders();
@@ -104,7 +147,7 @@ public class AzureCognitiveServiceImpl implements AzureCognitiveService {
         headers.set("Content-Type", "application/json");
 
         Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("kind", "KeyPhraseExtraction");
+        requestBody.put("kind", kind);
 
         Map<String, Object> analysisInput = new HashMap<>();
         List<Map<String, Object>> documents = new ArrayList<>();
@@ -118,30 +161,39 @@ public class AzureCognitiveServiceImpl implements AzureCognitiveService {
 
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
         try {
-            ResponseEntity<Map> response = restTemplate.exchange(
+            ResponseEntity<Map> response = upstreamGuard.call(UpstreamGuard.AZURE, () -> restTemplate.exchange(
                     url,
                     HttpMethod.POST,
                     entity,
                     Map.class
-            );
-
-            return response.getBody();
+            ));
 
+            @SuppressWarnings("unchecked")
+            Map<String, Object> body = response.getBody();
+            return body;
+        } catch (UpstreamGuard.RejectedCallException e) {
+            outcome = "rejected";
+            throw e;
         } catch (Exception e) {
-            System.err.println("Error extracting key phrases with Azure: " + e.getMessage());
-            e.printStackTrace();
-            return getDefaultKeyPhrasesResult();
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("azure.text-analytics")
+                    .description("Latencia de las llamadas a Azure Text Analytics")
+                    .tag("kind", kind)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
     }
 
-    private Map<String, Object> transformToPersonalityDimensions(
+    private PersonalityOutcome transformToPersonalityDimensions(
             Map<String, Object> sentimentResult,
             Map<String, Object> keyPhrasesResult,
             Map<String, Object> originalResponses) {
 
-        Map<String, Object> result = new HashMap<>();
-
         // Extraer el sentimiento general
         double sentimentScore = extractSentimentScore(sentimentResult);
 
@@ -155,13 +207,13 @@ public class AzureCognitiveServiceImpl implements AzureCognitiveService {
                 originalResponses
         );
 
-        result.put("dimensions", dimensions);
-        result.put("description", generatePersonalityDescription(dimensions));
-        result.put("keyTraits", identifyKeyTraits(dimensions));
-        result.put("sentimentAnalysis", sentimentResult);
-        result.put("keyPhrases", keyPhrases);
-
-        return result;
+        return new PersonalityOutcome(
+                dimensions,
+                generatePersonalityDescription(dimensions),
+                identifyKeyTraits(dimensions),
+                sentimentResult,
+                keyPhrases
+        );
     }
 
     private double extractSentimentScore(Map<String, Object> sentimentResult) {
@@ -0,0 +1,100 @@
+package compass.career.careercompass.service;
+
+import compass.career.careercompass.model.CognitiveOutcome;
+import compass.career.careercompass.model.PersonalityOutcome;
+import compass.career.careercompass.model.VocationalOutcome;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Motor de puntuación local y determinista: combina los resultados de los tests
+ * (intereses vocacionales, habilidades cognitivas y dimensiones de personalidad) con los
+ * pesos de cada carrera. Se usa para enviar a Groq solo las mejores candidatas y como
+ * respuesta directa cuando Groq no está disponible.
+ *
+ * <p>Las carreras sin pesos configurados se puntúan por coincidencia entre los nombres de
+ * las áreas y el nombre y la descripción de la carrera. Los vectores de cada carrera están
+ * precalculados en {@link CatalogFeatureIndex}.
+ */
+@Component
+@RequiredArgsConstructor
+public class CareerScoringEngine {
+
+    static final String VOCATIONAL = "vocational:";
+    static final String COGNITIVE = "cognitive:";
+    static final String PERSONALITY = "personality:";
+
+    private final CatalogFeatureIndex featureIndex;
+
+    /**
+     * Construye el perfil del estudiante: rasgo -> valor normalizado entre 0 y 1.
+     */
+    public Map<String, Double> profile(PersonalityOutcome personalityResults,
+                                       VocationalOutcome vocationalResults,
+                                       CognitiveOutcome cognitiveResults) {
+        Map<String, Double> profile = new HashMap<>();
+
+        if (vocationalResults != null && vocationalResults.topAreas() != null) {
+            for (VocationalOutcome.AreaPercentage area : vocationalResults.topAreas()) {
+                profile.put(VOCATIONAL + normalize(area.area()), area.percentage().doubleValue() / 100.0);
+            }
+        }
+
+        if (cognitiveResults != null && cognitiveResults.cognitiveAreas() != null) {
+            cognitiveResults.cognitiveAreas().forEach((area, data) ->
+                    profile.put(COGNITIVE + normalize(area), data.score().doubleValue() / 100.0));
+        }
+
+        if (personalityResults != null && personalityResults.dimensions() != null) {
+            personalityResults.dimensions().forEach((dimension, score) ->
+                    profile.put(PERSONALITY + normalize(dimension), score / 100.0));
+        }
+
+        return profile;
+    }
+
+    /**
+     * Devuelve las {@code limit} carreras con mayor compatibilidad (0-100), de mayor a menor.
+     * Los empates se resuelven por id para que el resultado sea estable. Las carreras del
+     * índice que no estén en {@code careers} se omiten.
+     */
+    public List<ScoredCareer> rank(Map<String, Double> profile,
+                                   Map<Integer, GroqService.CareerInfo> careers,
+                                   int limit) {
+        int[] ids = new int[limit];
+        float[] scores = new float[limit];
+        int found = featureIndex.search(profile, ids, scores);
+
+        List<ScoredCareer> ranked = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            GroqService.CareerInfo career = careers.get(ids[i]);
+            if (career != null) {
+                ranked.add(new ScoredCareer(career, compatibility(scores[i])));
+            }
+        }
+        return ranked;
+    }
+
+    // Promedio ponderado del perfil (producto punto con la fila normalizada), acotado a 0-100
+    private static double compatibility(float score) {
+        double compatibility = Math.max(0, Math.min(1, score)) * 100;
+        return Math.round(compatibility * 10) / 10.0;
+    }
+
+    static String normalize(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .trim();
+    }
+
+    public record ScoredCareer(GroqService.CareerInfo career, double compatibility) {
+    }
+}
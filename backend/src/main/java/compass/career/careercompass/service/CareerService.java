@@ -3,13 +3,18 @@ package compass.career.careercompass.service;
 import compass.career.careercompass.dto.*;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface CareerService {
     List<CareerRecommendationResponse> getRecommendedCareers(Integer userId);
+
+    // Entrega cada recomendación en cuanto está disponible y devuelve la lista completa
+    List<CareerRecommendationResponse> streamRecommendedCareers(Integer userId,
+                                                                Consumer<CareerRecommendationResponse> onRecommendation);
     CareerDetailResponse getCareerDetails(Integer careerId);
 
     // Método con paginación
-    List<CareerResponse> getAllCareers(int page, int pageSize);
+    CursorPageResponse<CareerResponse> getAllCareers(String cursor, int pageSize);
 
     CareerResponse getCareerById(Integer careerId);
     CareerResponse createCareer(CareerRequest request);
@@ -1,25 +1,25 @@
 package compass.career.careercompass.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import compass.career.careercompass.dto.*;
 import compass.career.careercompass.mapper.AdminMapper;
 import compass.career.careercompass.mapper.CareerMapper;
 import compass.career.careercompass.model.*;
 import compass.career.careercompass.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,28 +30,159 @@ public class CareerServiceImpl implements CareerService {
     private final CareerRepository careerRepository;
     private final CareerRecommendationRepository careerRecommendationRepository;
     private final UserRepository userRepository;
-    private final CompletedEvaluationRepository completedEvaluationRepository;
-    private final SocialMediaApiService socialMediaApiService;
+    private final LatestTestResults latestTestResults;
+    private final SocialMediaSnapshotService socialMediaSnapshotService;
     private final GroqService groqService;
-    private final ObjectMapper objectMapper;
+    private final RecommendationPhaseRunner phaseRunner;
+    private final RecommendationCache recommendationCache;
+    private final RecommendationSingleFlight singleFlight;
+    private final CareerScoringEngine scoringEngine;
+    private final CatalogFeatureIndex featureIndex;
+    private final LlmResponseCache llmResponseCache;
+    private final MeterRegistry meterRegistry;
 
-    // Caché simple de recomendaciones (1 hora)
-    private final Map<Integer, CachedRecommendations> cache = new ConcurrentHashMap<>();
+    private static final String PHASE_TYPE = "career";
+
+    // Candidatas (mejor puntuadas localmente) que se envían a Groq para reordenar y explicar
+    @Value("${recommendations.scoring.candidates:15}")
+    private int scoringCandidates;
+
+    // Recomendaciones devueltas cuando Groq no está disponible
+    @Value("${recommendations.scoring.fallback-size:10}")
+    private int fallbackSize;
 
     @Override
-    @Transactional
     public List<CareerRecommendationResponse> getRecommendedCareers(Integer userId) {
         log.info("Generating career recommendations for user {}", userId);
 
         // Verificar caché
-        CachedRecommendations cached = cache.get(userId);
-        if (cached != null && !cached.isExpired()) {
+        List<CareerRecommendationResponse> cached = recommendationCache.getCareers(userId);
+        if (cached != null) {
             log.info("Returning cached recommendations for user {}", userId);
-            return cached.getRecommendations();
+            return cached;
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
+        // Las llamadas concurrentes del mismo usuario comparten una sola generación
+        return singleFlight.execute(PHASE_TYPE, userId, () -> generateRecommendations(userId, null));
+    }
+
+    @Override
+    public List<CareerRecommendationResponse> streamRecommendedCareers(
+            Integer userId, Consumer<CareerRecommendationResponse> onRecommendation) {
+        log.info("Streaming career recommendations for user {}", userId);
+        RecommendationSink sink = new RecommendationSink(onRecommendation);
+
+        List<CareerRecommendationResponse> cached = recommendationCache.getCareers(userId);
+        if (cached != null) {
+            log.info("Returning cached recommendations for user {}", userId);
+            sink.emitAll("cache", cached);
+            return cached;
+        }
+
+        // Comparte la generación con otros streams o trabajos del mismo usuario: el primero
+        // entrega en streaming y los demás reciben la lista final completa
+        AtomicBoolean leader = new AtomicBoolean();
+        List<CareerRecommendationResponse> responses = singleFlight.execute(PHASE_TYPE, userId, () -> {
+            leader.set(true);
+            return generateRecommendations(userId, sink);
+        });
+        if (!leader.get()) {
+            sink.emitAll("singleflight", responses);
+        }
+        return responses;
+    }
+
+    /**
+     * Genera las recomendaciones en tres fases. Con {@code sink}, la llamada a Groq se hace en
+     * streaming y cada recomendación se entrega en cuanto se completa; las que salen de la base
+     * de datos, de la caché de respuestas o de la puntuación local se entregan juntas.
+     */
+    private List<CareerRecommendationResponse> generateRecommendations(Integer userId, RecommendationSink sink) {
+        // Fase 1: lectura (transacción corta)
+        RecommendationInput input = phaseRunner.read(PHASE_TYPE, () -> loadRecommendationInput(userId));
+
+        if (input.existingResponses != null) {
+            // Guardar en caché
+            recommendationCache.putCareers(userId, input.existingResponses);
+            emitAll(sink, "database", input.existingResponses);
+            return input.existingResponses;
+        }
+
+        // Fase 2: llamada a Groq AI sin retener conexión a la base de datos,
+        // salvo que ya exista una respuesta para un perfil equivalente
+        boolean fromCache = input.cachedRecommendations != null;
+        List<GroqService.CareerRecommendation> aiRecommendations = fromCache
+                ? input.cachedRecommendations
+                : callGroq(userId, input, sink);
+
+        if (aiRecommendations == null) {
+            // Sin Groq: se responde con la puntuación local, sin guardarla ni cachearla
+            // para que la siguiente petición vuelva a intentar con Groq
+            List<CareerRecommendationResponse> local = input.localRanking.stream()
+                    .limit(fallbackSize)
+                    .map(scored -> toResponse(scored.career(), scored.compatibility()))
+                    .collect(Collectors.toList());
+            emitAll(sink, "local", local);
+            return local;
+        }
+
+        // Fase 3: escritura (transacción corta)
+        List<CareerRecommendationResponse> responses = phaseRunner.write(PHASE_TYPE, () -> {
+            if (!fromCache) {
+                llmResponseCache.put(input.fingerprint, aiRecommendations);
+            }
+            return saveRecommendations(userId, aiRecommendations);
+        });
+
+        // Guardar en caché
+        recommendationCache.putCareers(userId, responses);
+        if (fromCache) {
+            emitAll(sink, "response-cache", responses);
+        }
+
+        log.info("Successfully generated and saved {} recommendations for user {}", responses.size(), userId);
+        return responses;
+    }
+
+    // Devuelve null si Groq rechaza la llamada (circuito abierto o límite excedido)
+    private List<GroqService.CareerRecommendation> callGroq(Integer userId, RecommendationInput input,
+                                                            RecommendationSink sink) {
+        return phaseRunner.external(PHASE_TYPE, () -> {
+            try {
+                if (sink != null) {
+                    Map<Integer, GroqService.CareerInfo> careersById = input.careerInfoList.stream()
+                            .collect(Collectors.toMap(GroqService.CareerInfo::getId, c -> c));
+                    return groqService.streamCareerRecommendations(
+                            input.personalityResults,
+                            input.vocationalResults,
+                            input.cognitiveResults,
+                            input.careerInfoList,
+                            rec -> sink.emit("groq", toResponse(careersById.get(rec.getCareerId()),
+                                    rec.getCompatibilityPercentage()))
+                    );
+                }
+                return groqService.generateCareerRecommendations(
+                        input.personalityResults,
+                        input.vocationalResults,
+                        input.cognitiveResults,
+                        input.careerInfoList
+                );
+            } catch (UpstreamGuard.RejectedCallException e) {
+                log.warn("Groq unavailable ({}), using local scoring for user {}", e.getMessage(), userId);
+                return null;
+            } catch (Exception e) {
+                log.error("Error generating recommendations with Groq AI", e);
+                throw new RuntimeException("Failed to generate career recommendations", e);
+            }
+        });
+    }
+
+    private RecommendationInput loadRecommendationInput(Integer userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("User not found");
+        }
+
+        RecommendationInput input = new RecommendationInput();
 
         // Verificar si ya existen recomendaciones en BD (generadas previamente)
         List<CareerRecommendation> existingRecommendations =
@@ -59,35 +190,42 @@ public class CareerServiceImpl implements CareerService {
 
         if (!existingRecommendations.isEmpty()) {
             log.info("Found {} existing recommendations in database for user {}", existingRecommendations.size(), userId);
-            List<CareerRecommendationResponse> responses = existingRecommendations.stream()
+            input.existingResponses = existingRecommendations.stream()
                     .map(CareerMapper::toRecommendationResponse)
                     .collect(Collectors.toList());
-
-            // Guardar en caché
-            cache.put(userId, new CachedRecommendations(responses));
-            return responses;
+            return input;
         }
 
         // Generar nuevas recomendaciones usando Groq AI
         log.info("Generating NEW recommendations using Groq AI for user {}", userId);
 
         // 1. Obtener resultados de los tests
-        Map<String, Object> personalityResults = getTestResults(userId, "personality");
-        Map<String, Object> vocationalResults = getTestResults(userId, "vocational_interests");
-        Map<String, Object> cognitiveResults = getTestResults(userId, "cognitive_skills");
+        LatestTestResults.Outcomes testResults = latestTestResults.load(userId);
+        input.personalityResults = testResults.personality();
+        input.vocationalResults = testResults.vocational();
+        input.cognitiveResults = testResults.cognitive();
 
         // Validar que el usuario haya completado al menos un test
-        if (personalityResults.isEmpty() && vocationalResults.isEmpty() && cognitiveResults.isEmpty()) {
+        if (testResults.isEmpty()) {
             throw new IllegalStateException("User must complete at least one evaluation to get recommendations");
         }
 
-        // 2. Obtener todas las carreras disponibles
+        // 2. Respuesta ya generada para un perfil equivalente (misma huella)
+        input.fingerprint = llmResponseCache.fingerprint(
+                input.personalityResults, input.vocationalResults, input.cognitiveResults);
+        input.cachedRecommendations = llmResponseCache.get(input.fingerprint);
+        if (input.cachedRecommendations != null) {
+            log.info("Reusing cached Groq response for user {} (profile {})", userId, input.fingerprint);
+            return input;
+        }
+
+        // 3. Obtener todas las carreras disponibles
         List<Career> allCareers = careerRepository.findAll();
         if (allCareers.isEmpty()) {
             throw new IllegalStateException("No careers available in the system");
         }
 
-        // 3. Preparar información de carreras para Groq AI
+        // 4. Preparar información de carreras
         List<GroqService.CareerInfo> careerInfoList = allCareers.stream()
                 .map(c -> new GroqService.CareerInfo(
                         c.getId(),
@@ -98,25 +236,40 @@ public class CareerServiceImpl implements CareerService {
                 ))
                 .collect(Collectors.toList());
 
-        // 4. Llamar a Groq AI para generar recomendaciones
-        List<GroqService.CareerRecommendation> aiRecommendations;
-        try {
-            aiRecommendations = groqService.generateCareerRecommendations(
-                    personalityResults,
-                    vocationalResults,
-                    cognitiveResults,
-                    careerInfoList
-            );
-        } catch (Exception e) {
-            log.error("Error generating recommendations with Groq AI", e);
-            throw new RuntimeException("Failed to generate career recommendations", e);
-        }
+        // 5. Puntuación local: solo las mejores candidatas se envían a Groq AI
+        Map<Integer, GroqService.CareerInfo> careersById = careerInfoList.stream()
+                .collect(Collectors.toMap(GroqService.CareerInfo::getId, c -> c));
+
+        Map<String, Double> profile = scoringEngine.profile(
+                input.personalityResults, input.vocationalResults, input.cognitiveResults);
+        input.localRanking = scoringEngine.rank(profile, careersById, scoringCandidates);
+        input.careerInfoList = input.localRanking.stream()
+                .map(CareerScoringEngine.ScoredCareer::career)
+                .collect(Collectors.toList());
+
+        return input;
+    }
+
+    private List<CareerRecommendationResponse> saveRecommendations(
+            Integer userId, List<GroqService.CareerRecommendation> aiRecommendations) {
+
+        User user = userRepository.getReferenceById(userId);
+
+        // Reemplazar cualquier resultado escrito en paralelo (p. ej. desde otro nodo)
+        careerRecommendationRepository.deleteByUserId(userId);
+
+        Map<Integer, Career> careers = careerRepository.findAllById(aiRecommendations.stream()
+                        .map(GroqService.CareerRecommendation::getCareerId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Career::getId, c -> c));
 
-        // 5. Guardar recomendaciones en la base de datos
         List<CareerRecommendation> savedRecommendations = new ArrayList<>();
         for (GroqService.CareerRecommendation aiRec : aiRecommendations) {
-            Career career = careerRepository.findById(aiRec.getCareerId())
-                    .orElseThrow(() -> new EntityNotFoundException("Career not found: " + aiRec.getCareerId()));
+            Career career = careers.get(aiRec.getCareerId());
+            if (career == null) {
+                throw new EntityNotFoundException("Career not found: " + aiRec.getCareerId());
+            }
 
             CareerRecommendation recommendation = new CareerRecommendation();
             recommendation.setUser(user);
@@ -126,45 +279,9 @@ public class CareerServiceImpl implements CareerService {
             savedRecommendations.add(careerRecommendationRepository.save(recommendation));
         }
 
-        // 6. Construir respuesta
-        List<CareerRecommendationResponse> responses = savedRecommendations.stream()
+        return savedRecommendations.stream()
                 .map(CareerMapper::toRecommendationResponse)
                 .collect(Collectors.toList());
-
-        // 7. Guardar en caché
-        cache.put(userId, new CachedRecommendations(responses));
-
-        log.info("Successfully generated and saved {} recommendations for user {}", responses.size(), userId);
-        return responses;
-    }
-
-    private Map<String, Object> getTestResults(Integer userId, String testTypeName) {
-        // Buscar evaluación más reciente del usuario para este tipo de test
-        List<CompletedEvaluation> evaluations = completedEvaluationRepository.findByUserIdOrderByCompletionDateDesc(userId);
-
-        Optional<CompletedEvaluation> relevantEvaluation = evaluations.stream()
-                .filter(e -> testTypeName.equals(e.getTest().getTestType().getName()))
-                .findFirst();
-
-        if (relevantEvaluation.isEmpty()) {
-            log.debug("User {} has not completed {} test", userId, testTypeName);
-            return Collections.emptyMap();
-        }
-
-        // Obtener resultado JSON
-        CompletedEvaluation evaluation = relevantEvaluation.get();
-        if (evaluation.getEvaluationResult() == null) {
-            log.warn("No result found for evaluation {}", evaluation.getId());
-            return Collections.emptyMap();
-        }
-
-        try {
-            String jsonResult = evaluation.getEvaluationResult().getResultJson();
-            return objectMapper.readValue(jsonResult, Map.class);
-        } catch (Exception e) {
-            log.error("Error parsing {} test results for user {}", testTypeName, userId, e);
-            return Collections.emptyMap();
-        }
     }
 
     @Override
@@ -173,62 +290,97 @@ public class CareerServiceImpl implements CareerService {
         Career career = careerRepository.findById(careerId)
                 .orElseThrow(() -> new EntityNotFoundException("Career not found"));
 
-        // Obtener información adicional de API de medios sociales
-        Object socialMediaData = socialMediaApiService.getCareerInformation(career.getName());
+        // Información de redes sociales precalculada (sin llamadas a Reddit en la petición)
+        Object socialMediaData = socialMediaSnapshotService.getCareerData(career);
 
         return CareerMapper.toDetailResponse(career, socialMediaData);
     }
 
-    // Clase interna para caché
-    private static class CachedRecommendations {
-        private final List<CareerRecommendationResponse> recommendations;
-        private final LocalDateTime expiresAt;
+    private static CareerRecommendationResponse toResponse(GroqService.CareerInfo career, double compatibility) {
+        return CareerRecommendationResponse.builder()
+                .id(career.getId())
+                .name(career.getName())
+                .description(career.getDescription())
+                .compatibilityPercentage(BigDecimal.valueOf(compatibility))
+                .durationSemesters(career.getDurationSemesters())
+                .averageSalary(career.getAverageSalary())
+                .build();
+    }
+
+    private static void emitAll(RecommendationSink sink, String source, List<CareerRecommendationResponse> responses) {
+        if (sink != null) {
+            sink.emitAll(source, responses);
+        }
+    }
 
-        public CachedRecommendations(List<CareerRecommendationResponse> recommendations) {
-            this.recommendations = recommendations;
-            this.expiresAt = LocalDateTime.now().plusHours(1); // Caché de 1 hora
+    /**
+     * Destino de las recomendaciones en streaming. Registra el tiempo hasta la primera
+     * recomendación ({@code recommendations.stream.first}) según su origen.
+     */
+    private final class RecommendationSink {
+        private final Consumer<CareerRecommendationResponse> consumer;
+        private final Timer.Sample started = Timer.start(meterRegistry);
+        private boolean first = true;
+
+        private RecommendationSink(Consumer<CareerRecommendationResponse> consumer) {
+            this.consumer = consumer;
         }
 
-        public boolean isExpired() {
-            return LocalDateTime.now().isAfter(expiresAt);
+        private void emit(String source, CareerRecommendationResponse response) {
+            if (first) {
+                first = false;
+                started.stop(Timer.builder("recommendations.stream.first")
+                        .description("Tiempo hasta entregar la primera recomendación en streaming")
+                        .tag("type", PHASE_TYPE)
+                        .tag("source", source)
+                        .register(meterRegistry));
+            }
+            consumer.accept(response);
         }
 
-        public List<CareerRecommendationResponse> getRecommendations() {
-            return recommendations;
+        private void emitAll(String source, List<CareerRecommendationResponse> responses) {
+            for (CareerRecommendationResponse response : responses) {
+                emit(source, response);
+            }
         }
     }
 
+    // Datos leídos en la fase de lectura para la llamada a Groq AI
+    private static class RecommendationInput {
+        private List<CareerRecommendationResponse> existingResponses;
+        private PersonalityOutcome personalityResults;
+        private VocationalOutcome vocationalResults;
+        private CognitiveOutcome cognitiveResults;
+        private List<GroqService.CareerInfo> careerInfoList;
+        private List<CareerScoringEngine.ScoredCareer> localRanking;
+        private String fingerprint;
+        private List<GroqService.CareerRecommendation> cachedRecommendations;
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<CareerResponse> getAllCareers(int page, int pageSize) {
-        log.info("Fetching careers with pagination: page={}, pageSize={}", page, pageSize);
-
-        // Validar parámetros de paginación
-        if (page < 0 || pageSize <= 0) {
-            throw new IllegalArgumentException("Page must be >= 0 and pageSize must be > 0");
-        }
+    public CursorPageResponse<CareerResponse> getAllCareers(String cursor, int pageSize) {
+        log.info("Fetching careers after cursor {} - pageSize: {}", cursor, pageSize);
 
-        // Crear objeto Pageable con ordenamiento por nombre
-        Pageable pageable = PageRequest.of(page, pageSize, Sort.by("name").ascending());
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Pageable pageable = KeysetCursor.firstPage(pageSize);
 
-        // Obtener página de carreras
-        Page<Career> careerPage = careerRepository.findAll(pageable);
+        // Orden estable por (nombre, id): la siguiente página continúa después de la última fila
+        Slice<Career> slice = after.isStart()
+                ? careerRepository.findAllByOrderByNameAscIdAsc(pageable)
+                : careerRepository.findAfter(after.name(), after.id(), pageable);
 
         // Verificar si hay carreras
-        if (careerPage.isEmpty() && page == 0) {
+        if (!slice.hasContent() && after.isStart()) {
             throw new IllegalArgumentException("No hay carreras disponibles en el sistema");
         }
 
-        // Convertir a DTO
-        List<CareerResponse> careers = careerPage.getContent().stream()
-                .map(AdminMapper::toCareerResponse)
-                .collect(Collectors.toList());
+        CursorPageResponse<CareerResponse> careers = KeysetCursor.toResponse(
+                slice,
+                AdminMapper::toCareerResponse,
+                career -> new KeysetCursor(career.getName(), career.getId()));
 
-        log.info("Returned {} careers out of {} total (page {} of {})",
-                careers.size(),
-                careerPage.getTotalElements(),
-                page + 1,
-                careerPage.getTotalPages());
+        log.info("Returned {} careers (has more: {})", careers.getItems().size(), careers.isHasMore());
 
         return careers;
     }
@@ -247,6 +399,7 @@ public class CareerServiceImpl implements CareerService {
     public CareerResponse createCareer(CareerRequest request) {
         Career career = AdminMapper.toCareerEntity(request);
         Career saved = careerRepository.save(career);
+        featureIndex.invalidate();
         return AdminMapper.toCareerResponse(saved);
     }
 
@@ -258,6 +411,7 @@ public class CareerServiceImpl implements CareerService {
 
         AdminMapper.copyToCareerEntity(request, career);
         Career saved = careerRepository.save(career);
+        featureIndex.invalidate();
         return AdminMapper.toCareerResponse(saved);
     }
 }
\ No newline at end of file
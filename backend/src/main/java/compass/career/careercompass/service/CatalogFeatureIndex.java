@@ -0,0 +1,411 @@
+package compass.career.careercompass.service;
+
+import compass.career.careercompass.model.Career;
+import compass.career.careercompass.model.CareerFeatureWeight;
+import compass.career.careercompass.model.SpecializationArea;
+import compass.career.careercompass.model.VocationalArea;
+import compass.career.careercompass.repository.AnswerOptionRepository;
+import compass.career.careercompass.repository.CareerFeatureWeightRepository;
+import compass.career.careercompass.repository.CareerRepository;
+import compass.career.careercompass.repository.SpecializationAreaRepository;
+import compass.career.careercompass.repository.VocationalAreaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static compass.career.careercompass.service.CareerScoringEngine.COGNITIVE;
+import static compass.career.careercompass.service.CareerScoringEngine.PERSONALITY;
+import static compass.career.careercompass.service.CareerScoringEngine.VOCATIONAL;
+import static compass.career.careercompass.service.CareerScoringEngine.normalize;
+
+/**
+ * Vectores de rasgos precalculados del catálogo: una fila {@code float[]} por carrera sobre un
+ * espacio fijo (áreas vocacionales, categorías cognitivas y las cinco
+ * dimensiones de personalidad). Cada fila se guarda dividida por la suma de sus pesos, así el
+ * producto punto con el perfil es directamente el promedio ponderado del motor de puntuación.
+ *
+ * <p>Se reconstruye cuando se crea o actualiza una carrera o especialización, y periódicamente
+ * para recoger cambios hechos desde otro nodo; la versión solo avanza si cambió el contenido. La búsqueda top-K no reserva memoria: usa un
+ * búfer de consulta por hilo y un min-heap sobre los arreglos que entrega el llamador.
+ */
+@Component
+@Slf4j
+public class CatalogFeatureIndex {
+
+    private static final List<String> PERSONALITY_DIMENSIONS =
+            List.of("openness", "conscientiousness", "extraversion", "agreeableness", "neuroticism");
+
+    private final CareerRepository careerRepository;
+    private final SpecializationAreaRepository specializationAreaRepository;
+    private final CareerFeatureWeightRepository careerFeatureWeightRepository;
+    private final VocationalAreaRepository vocationalAreaRepository;
+    private final AnswerOptionRepository answerOptionRepository;
+    private final TransactionTemplate readTransaction;
+    private final AtomicLong versions = new AtomicLong();
+    // Huella y versión de la última construcción; solo se leen y escriben bajo buildLock
+    private String builtContent;
+    private long builtVersion;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Object buildLock = new Object();
+
+    // Búfer de consulta por hilo; solo crece si aumenta el número de rasgos
+    private final ThreadLocal<float[]> queryBuffers = ThreadLocal.withInitial(() -> new float[0]);
+
+    private volatile Snapshot snapshot;
+
+    public CatalogFeatureIndex(CareerRepository careerRepository,
+                               SpecializationAreaRepository specializationAreaRepository,
+                               CareerFeatureWeightRepository careerFeatureWeightRepository,
+                               VocationalAreaRepository vocationalAreaRepository,
+                               AnswerOptionRepository answerOptionRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.careerRepository = careerRepository;
+        this.specializationAreaRepository = specializationAreaRepository;
+        this.careerFeatureWeightRepository = careerFeatureWeightRepository;
+        this.vocationalAreaRepository = vocationalAreaRepository;
+        this.answerOptionRepository = answerOptionRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Escribe en {@code ids} y {@code scores} las carreras con mayor producto punto con el
+     * perfil, de mayor a menor, y devuelve cuántas se escribieron. K es la longitud de los arreglos; los empates
+     * se resuelven por id para que el resultado sea estable.
+     */
+    public int search(Map<String, Double> profile, int[] ids, float[] scores) {
+        Snapshot current = snapshot();
+        int dimensions = current.features.size();
+
+        float[] query = queryBuffers.get();
+        if (query.length < dimensions) {
+            query = new float[dimensions];
+            queryBuffers.set(query);
+        }
+        Arrays.fill(query, 0, dimensions, 0f);
+        for (Map.Entry<String, Double> entry : profile.entrySet()) {
+            Integer index = current.features.get(entry.getKey());
+            if (index != null) {
+                query[index] = entry.getValue().floatValue();
+            }
+        }
+
+        return current.careers.topK(query, ids, scores);
+    }
+
+    /**
+     * Versión del catálogo indexado (carreras, especializaciones y rasgos); una reconstrucción
+     * con el mismo contenido conserva la versión anterior.
+     */
+    public long version() {
+        return snapshot().version;
+    }
+
+    /**
+     * Huella del catálogo de carreras (datos y pesos). A diferencia de {@link #version()}, es
+     * la misma en todos los nodos y entre reinicios mientras las carreras no cambien.
+     */
+    public String careerCatalogVersion() {
+        return snapshot().careerCatalogVersion;
+    }
+
+    /**
+     * Descarta la matriz. Dentro de una transacción se aplica después del commit.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    discard();
+                }
+            });
+        } else {
+            discard();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${recommendations.feature-index.refresh-interval-ms:300000}",
+            initialDelayString = "${recommendations.feature-index.refresh-interval-ms:300000}")
+    public void refresh() {
+        discard();
+        snapshot();
+    }
+
+    private void discard() {
+        invalidations.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (buildLock) {
+            current = snapshot;
+            if (current == null) {
+                // Si se invalida mientras se construye, la matriz se usa solo para esta consulta
+                long generation = invalidations.get();
+                current = build();
+                if (invalidations.get() == generation) {
+                    snapshot = current;
+                }
+            }
+            return current;
+        }
+    }
+
+    private Snapshot build() {
+        return readTransaction.execute(status -> {
+            Map<String, Integer> features = new LinkedHashMap<>();
+            for (String dimension : PERSONALITY_DIMENSIONS) {
+                addFeature(features, PERSONALITY + dimension);
+            }
+            for (VocationalArea area : vocationalAreaRepository.findAll()) {
+                addFeature(features, VOCATIONAL + normalize(area.getName()));
+            }
+            for (String category : answerOptionRepository.findDistinctCategoriesByTestTypeName("vocational_interests")) {
+                addFeature(features, VOCATIONAL + normalize(category));
+            }
+            for (String category : answerOptionRepository.findDistinctCategoriesByTestTypeName("cognitive_skills")) {
+                addFeature(features, COGNITIVE + normalize(category));
+            }
+
+            Map<Integer, Map<String, Double>> weights = new HashMap<>();
+            for (CareerFeatureWeight weight : careerFeatureWeightRepository.findAll()) {
+                String feature = normalize(weight.getFeature());
+                addFeature(features, feature);
+                weights.computeIfAbsent(weight.getCareer().getId(), id -> new HashMap<>())
+                        .put(feature, weight.getWeight().doubleValue());
+            }
+
+            int dimensions = features.size();
+            List<Career> careers = careerRepository.findAll();
+            List<SpecializationArea> specializations = specializationAreaRepository.findAll();
+
+            // Carreras: pesos configurados o, si no hay, coincidencia de texto
+            Matrix careerMatrix = new Matrix(careers.size(), dimensions);
+            for (int i = 0; i < careers.size(); i++) {
+                Career career = careers.get(i);
+                float[] row = new float[dimensions];
+                Map<String, Double> careerWeights = weights.get(career.getId());
+                if (careerWeights != null && !careerWeights.isEmpty()) {
+                    careerWeights.forEach((feature, weight) -> row[features.get(feature)] = weight.floatValue());
+                } else {
+                    textRow(features, career.getName() + " " + nullToEmpty(career.getDescription()), row);
+                }
+                careerMatrix.set(i, career.getId(), row);
+            }
+
+            String careerCatalogVersion = careerCatalogVersion(careers, weights);
+            String content = contentVersion(careerCatalogVersion, features, specializations);
+            if (!content.equals(builtContent)) {
+                builtContent = content;
+                builtVersion = versions.incrementAndGet();
+            }
+
+            Snapshot built = new Snapshot(builtVersion, careerCatalogVersion, features, careerMatrix);
+            log.info("Built catalog feature index v{} with {} careers, {} specializations and {} features",
+                    built.version, careers.size(), specializations.size(), dimensions);
+            return built;
+        });
+    }
+
+    // SHA-256 de las carreras y sus pesos, en orden de id y de rasgo
+    private static String careerCatalogVersion(List<Career> careers, Map<Integer, Map<String, Double>> weights) {
+        StringBuilder canonical = new StringBuilder();
+        careers.stream()
+                .sorted(Comparator.comparing(Career::getId))
+                .forEach(career -> {
+                    canonical.append(career.getId()).append('|')
+                            .append(career.getName()).append('|')
+                            .append(career.getDescription()).append('|')
+                            .append(career.getDurationSemesters()).append('|')
+                            .append(career.getAverageSalary() != null ? career.getAverageSalary().stripTrailingZeros().toPlainString() : null)
+                            .append('|');
+                    new TreeMap<>(weights.getOrDefault(career.getId(), Map.of()))
+                            .forEach((feature, weight) -> canonical.append(feature).append('=').append(weight).append(','));
+                    canonical.append('\n');
+                });
+
+        return sha256(canonical);
+    }
+
+    // Huella de todo lo indexado y de lo que PromptEncoder guarda por versión
+    private static String contentVersion(String careerCatalogVersion, Map<String, Integer> features,
+                                         List<SpecializationArea> specializations) {
+        StringBuilder canonical = new StringBuilder(careerCatalogVersion).append('\n');
+        features.forEach((feature, index) -> canonical.append(feature).append('=').append(index).append(','));
+        canonical.append('\n');
+        specializations.stream()
+                .sorted(Comparator.comparing(SpecializationArea::getId))
+                .forEach(specialization -> canonical.append(specialization.getId()).append('|')
+                        .append(specialization.getCareer() != null ? specialization.getCareer().getId() : null).append('|')
+                        .append(specialization.getName()).append('|')
+                        .append(specialization.getDescription()).append('|')
+                        .append(specialization.getApplicationFields()).append('|')
+                        .append(specialization.getJobProjection()).append('\n'));
+        return sha256(canonical);
+    }
+
+    private static String sha256(CharSequence canonical) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void addFeature(Map<String, Integer> features, String feature) {
+        if (feature.substring(feature.indexOf(':') + 1).isBlank()) {
+            return;
+        }
+        features.putIfAbsent(feature, features.size());
+    }
+
+    private static void textRow(Map<String, Integer> features, String text, float[] row) {
+        String normalized = normalize(text);
+        for (Map.Entry<String, Integer> entry : features.entrySet()) {
+            String feature = entry.getKey();
+            if (normalized.contains(feature.substring(feature.indexOf(':') + 1))) {
+                row[entry.getValue()] = 1f;
+            }
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private record Snapshot(long version, String careerCatalogVersion, Map<String, Integer> features,
+                            Matrix careers) {
+    }
+
+    /**
+     * Matriz densa fila por fila: {@code values[row * dimensions + feature]}.
+     */
+    private final class Matrix {
+        private final int dimensions;
+        private final int[] ids;
+        private final float[] values;
+
+        private Matrix(int rows, int dimensions) {
+            this.dimensions = dimensions;
+            this.ids = new int[rows];
+            this.values = new float[rows * dimensions];
+        }
+
+        private void set(int row, int id, float[] weights) {
+            float total = 0;
+            for (float weight : weights) {
+                total += Math.abs(weight);
+            }
+
+            int offset = row * dimensions;
+            for (int i = 0; i < dimensions; i++) {
+                values[offset + i] = total > 0 ? weights[i] / total : 0f;
+            }
+            ids[row] = id;
+        }
+
+        private int topK(float[] query, int[] heapIds, float[] heapScores) {
+            int k = Math.min(heapIds.length, heapScores.length);
+            if (k == 0) {
+                return 0;
+            }
+
+            int size = 0;
+            for (int row = 0; row < ids.length; row++) {
+                float score = dot(values, row * dimensions, query, dimensions);
+
+                int id = ids[row];
+                if (size < k) {
+                    heapIds[size] = id;
+                    heapScores[size] = score;
+                    siftUp(heapIds, heapScores, size++);
+                } else if (better(score, id, heapScores[0], heapIds[0])) {
+                    heapIds[0] = id;
+                    heapScores[0] = score;
+                    siftDown(heapIds, heapScores, 0, size);
+                }
+            }
+
+            // Heapsort: la raíz es la peor, así que cada extracción la deja al final
+            for (int end = size - 1; end > 0; end--) {
+                swap(heapIds, heapScores, 0, end);
+                siftDown(heapIds, heapScores, 0, end);
+            }
+            return size;
+        }
+    }
+
+    private static boolean better(float score, int id, float otherScore, int otherId) {
+        return score > otherScore || (score == otherScore && id < otherId);
+    }
+
+    private static void siftUp(int[] ids, float[] scores, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!better(scores[parent], ids[parent], scores[index], ids[index])) {
+                return;
+            }
+            swap(ids, scores, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] ids, float[] scores, int index, int size) {
+        while (true) {
+            int worst = 2 * index + 1;
+            if (worst >= size) {
+                return;
+            }
+            int right = worst + 1;
+            if (right < size && better(scores[worst], ids[worst], scores[right], ids[right])) {
+                worst = right;
+            }
+            if (!better(scores[index], ids[index], scores[worst], ids[worst])) {
+                return;
+            }
+            swap(ids, scores, index, worst);
+            index = worst;
+        }
+    }
+
+    // Con unas decenas de rasgos por fila el bucle escalar basta
+    private static float dot(float[] matrix, int offset, float[] query, int length) {
+        float sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += matrix[offset + i] * query[i];
+        }
+        return sum;
+    }
+
+    private static void swap(int[] ids, float[] scores, int a, int b) {
+        int id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
@@ -0,0 +1,76 @@
+package compass.career.careercompass.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import compass.career.careercompass.model.EvaluationOutcome;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Codificación de los resultados de evaluación para consumidores internos. La API sigue
+ * leyendo la columna JSONB; con {@code evaluations.results.binary-format} en {@code smile} o
+ * {@code cbor} se guarda además una copia binaria que las recomendaciones leen sin pasar por
+ * texto JSON.
+ *
+ * <p>Al leer, el formato se reconoce por la cabecera de Smile, así las filas escritas con otra
+ * configuración se siguen leyendo.
+ */
+@Component
+@Slf4j
+public class EvaluationOutcomeCodec {
+
+    public enum Format { NONE, SMILE, CBOR }
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final ObjectMapper cborMapper;
+    private final Format format;
+
+    public EvaluationOutcomeCodec(ObjectMapper objectMapper,
+                                  @Value("${evaluations.results.binary-format:none}") String format) {
+        this.jsonMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.format = Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Copia binaria del resultado en el formato configurado, o null si está desactivada.
+     */
+    public byte[] encode(EvaluationOutcome outcome) {
+        if (outcome == null || format == Format.NONE) {
+            return null;
+        }
+        try {
+            return (format == Format.SMILE ? smileMapper : cborMapper).writeValueAsBytes(outcome);
+        } catch (IOException e) {
+            throw new IllegalStateException("Error encoding evaluation result", e);
+        }
+    }
+
+    /**
+     * Lee el resultado desde la copia binaria si existe, si no desde el JSON. Devuelve null si
+     * no hay resultado o no se puede leer como {@code type}.
+     */
+    public <T extends EvaluationOutcome> T decode(byte[] binary, String json, Class<T> type) {
+        try {
+            if (binary != null && binary.length > 0) {
+                return (isSmile(binary) ? smileMapper : cborMapper).readValue(binary, type);
+            }
+            return json != null ? jsonMapper.readValue(json, type) : null;
+        } catch (IOException e) {
+            log.warn("Discarding unreadable {} evaluation result: {}", type.getSimpleName(), e.getMessage());
+            return null;
+        }
+    }
+
+    // Cabecera de Smile: ":)\n"
+    private static boolean isSmile(byte[] binary) {
+        return binary.length >= 3 && binary[0] == ':' && binary[1] == ')' && binary[2] == '\n';
+    }
+}
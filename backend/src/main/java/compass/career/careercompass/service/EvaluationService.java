@@ -6,10 +6,13 @@ import java.util.List;
 
 public interface EvaluationService {
     TestResponse getPersonalityTest();
+    SerializedTestResponse getSerializedPersonalityTest();
     EvaluationResultResponse submitPersonalityTest(Integer userId, SubmitTestRequest request);
     TestResponse getVocationalInterestsTest();
+    SerializedTestResponse getSerializedVocationalInterestsTest();
     EvaluationResultResponse submitVocationalInterestsTest(Integer userId, SubmitTestRequest request);
     TestResponse getCognitiveSkillsTest();
+    SerializedTestResponse getSerializedCognitiveSkillsTest();
     EvaluationResultResponse submitCognitiveSkillsTest(Integer userId, SubmitTestRequest request);
     List<EvaluationHistoryResponse> getEvaluationHistory(Integer userId);
 
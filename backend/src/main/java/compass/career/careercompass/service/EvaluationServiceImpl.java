@@ -1,10 +1,7 @@
 package compass.career.careercompass.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import compass.career.careercompass.dto.*;
 import compass.career.careercompass.mapper.EvaluationMapper;
-import compass.career.careercompass.mapper.TestMapper;
 import compass.career.careercompass.model.*;
 import compass.career.careercompass.repository.*;
 import jakarta.persistence.EntityNotFoundException;
@@ -18,6 +15,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,7 +25,6 @@ public class EvaluationServiceImpl implements EvaluationService {
 
     private final TestRepository testRepository;
     private final QuestionRepository questionRepository;
-    private final AnswerOptionRepository answerOptionRepository;
     private final UserRepository userRepository;
     private final CompletedEvaluationRepository completedEvaluationRepository;
     private final UserAnswerRepository userAnswerRepository;
@@ -34,26 +32,18 @@ public class EvaluationServiceImpl implements EvaluationService {
     private final AreaResultRepository areaResultRepository;
     private final VocationalAreaRepository vocationalAreaRepository;
     private final AzureCognitiveService azureCognitiveService;
-    private final ObjectMapper objectMapper;
+    private final RecommendationCache recommendationCache;
+    private final QuestionBank questionBank;
+    private final EvaluationOutcomeCodec outcomeCodec;
 
     @Override
-    @Transactional(readOnly = true)
     public TestResponse getPersonalityTest() {
-        Test test = testRepository.findByTestTypeNameAndActiveTrue("personality")
-                .orElseThrow(() -> new EntityNotFoundException("Personality test not found"));
-
-        List<Question> randomQuestions = questionRepository
-                .findRandomActiveQuestionsByTestId(test.getId(), test.getQuestionsToShow());
-
-        Test testWithRandomQuestions = new Test();
-        testWithRandomQuestions.setId(test.getId());
-        testWithRandomQuestions.setName(test.getName());
-        testWithRandomQuestions.setDescription(test.getDescription());
-        testWithRandomQuestions.setTestType(test.getTestType());
-        testWithRandomQuestions.setQuestionsToShow(test.getQuestionsToShow());
-        testWithRandomQuestions.setQuestions(randomQuestions);
+        return questionBank.sample("personality", "Personality test not found");
+    }
 
-        return TestMapper.toResponse(testWithRandomQuestions);
+    @Override
+    public SerializedTestResponse getSerializedPersonalityTest() {
+        return questionBank.sampleSerialized("personality", "Personality test not found");
     }
 
     @Override
@@ -80,60 +70,34 @@ public class EvaluationServiceImpl implements EvaluationService {
         evaluation = completedEvaluationRepository.save(evaluation);
 
         Map<String, Object> responses = new HashMap<>();
-        for (UserAnswerRequest answerReq : request.getAnswers()) {
-            Question question = questionRepository.findById(answerReq.getQuestionId())
-                    .orElseThrow(() -> new EntityNotFoundException("Question not found"));
-
-            AnswerOption option = answerOptionRepository.findById(answerReq.getOptionId())
-                    .orElseThrow(() -> new EntityNotFoundException("Answer option not found"));
-
-            UserAnswer userAnswer = new UserAnswer();
-            userAnswer.setEvaluation(evaluation);
-            userAnswer.setQuestion(question);
-            userAnswer.setOption(option);
-            userAnswerRepository.save(userAnswer);
-
-            responses.put("Q" + question.getId(), option.getOptionText());
+        for (UserAnswer userAnswer : saveAnswers(evaluation, test, request)) {
+            responses.put("Q" + userAnswer.getQuestion().getId(), userAnswer.getOption().getOptionText());
         }
 
-        Map<String, Object> personalityAnalysis = azureCognitiveService.analyzePersonality(responses);
+        PersonalityOutcome personalityAnalysis = azureCognitiveService.analyzePersonality(responses);
 
         BigDecimal totalScore = calculateAverageScore(personalityAnalysis);
         evaluation.setTotalScore(totalScore);
         evaluation = completedEvaluationRepository.save(evaluation);
 
-        EvaluationResult result = new EvaluationResult();
-        result.setEvaluation(evaluation);
-        try {
-            result.setResultJson(objectMapper.writeValueAsString(personalityAnalysis));
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Error processing result", e);
-        }
-        EvaluationResult savedResult = evaluationResultRepository.save(result);
+        EvaluationResult savedResult = saveResult(evaluation, personalityAnalysis);
 
         evaluation.setEvaluationResult(savedResult);
 
+        // Las recomendaciones en caché ya no reflejan la nueva evaluación
+        recommendationCache.invalidateUser(userId);
+
         return EvaluationMapper.toResultResponse(evaluation);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public TestResponse getVocationalInterestsTest() {
-        Test test = testRepository.findByTestTypeNameAndActiveTrue("vocational_interests")
-                .orElseThrow(() -> new EntityNotFoundException("Vocational interests test not found"));
-
-        List<Question> randomQuestions = questionRepository
-                .findRandomActiveQuestionsByTestId(test.getId(), test.getQuestionsToShow());
-
-        Test testWithRandomQuestions = new Test();
-        testWithRandomQuestions.setId(test.getId());
-        testWithRandomQuestions.setName(test.getName());
-        testWithRandomQuestions.setDescription(test.getDescription());
-        testWithRandomQuestions.setTestType(test.getTestType());
-        testWithRandomQuestions.setQuestionsToShow(test.getQuestionsToShow());
-        testWithRandomQuestions.setQuestions(randomQuestions);
+        return questionBank.sample("vocational_interests", "Vocational interests test not found");
+    }
 
-        return TestMapper.toResponse(testWithRandomQuestions);
+    @Override
+    public SerializedTestResponse getSerializedVocationalInterestsTest() {
+        return questionBank.sampleSerialized("vocational_interests", "Vocational interests test not found");
     }
 
     @Override
@@ -161,18 +125,8 @@ public class EvaluationServiceImpl implements EvaluationService {
 
         Map<String, Integer> areaScores = new HashMap<>();
 
-        for (UserAnswerRequest answerReq : request.getAnswers()) {
-            Question question = questionRepository.findById(answerReq.getQuestionId())
-                    .orElseThrow(() -> new EntityNotFoundException("Question not found"));
-
-            AnswerOption option = answerOptionRepository.findById(answerReq.getOptionId())
-                    .orElseThrow(() -> new EntityNotFoundException("Answer option not found"));
-
-            UserAnswer userAnswer = new UserAnswer();
-            userAnswer.setEvaluation(evaluation);
-            userAnswer.setQuestion(question);
-            userAnswer.setOption(option);
-            userAnswerRepository.save(userAnswer);
+        for (UserAnswer userAnswer : saveAnswers(evaluation, test, request)) {
+            AnswerOption option = userAnswer.getOption();
 
             if (option.getCategory() != null) {
                 areaScores.put(option.getCategory(),
@@ -222,44 +176,30 @@ public class EvaluationServiceImpl implements EvaluationService {
         evaluation.setTotalScore(avgScore);
         evaluation = completedEvaluationRepository.save(evaluation);
 
-        Map<String, Object> resultData = new HashMap<>();
-        resultData.put("topAreas", sortedAreas.stream()
-                .map(e -> Map.of("area", e.getKey(), "percentage", e.getValue()))
-                .collect(Collectors.toList()));
-        resultData.put("recommendations", generateVocationalRecommendations(sortedAreas));
+        VocationalOutcome resultData = new VocationalOutcome(
+                sortedAreas.stream()
+                        .map(e -> new VocationalOutcome.AreaPercentage(e.getKey(), e.getValue()))
+                        .collect(Collectors.toList()),
+                generateVocationalRecommendations(sortedAreas));
 
-        EvaluationResult result = new EvaluationResult();
-        result.setEvaluation(evaluation);
-        try {
-            result.setResultJson(objectMapper.writeValueAsString(resultData));
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Error processing result", e);
-        }
-        EvaluationResult savedResult = evaluationResultRepository.save(result);
+        EvaluationResult savedResult = saveResult(evaluation, resultData);
 
         evaluation.setEvaluationResult(savedResult);
 
+        // Las recomendaciones en caché ya no reflejan la nueva evaluación
+        recommendationCache.invalidateUser(userId);
+
         return EvaluationMapper.toResultResponse(evaluation);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public TestResponse getCognitiveSkillsTest() {
-        Test test = testRepository.findByTestTypeNameAndActiveTrue("cognitive_skills")
-                .orElseThrow(() -> new EntityNotFoundException("Cognitive skills test not found"));
-
-        List<Question> randomQuestions = questionRepository
-                .findRandomActiveQuestionsByTestId(test.getId(), test.getQuestionsToShow());
-
-        Test testWithRandomQuestions = new Test();
-        testWithRandomQuestions.setId(test.getId());
-        testWithRandomQuestions.setName(test.getName());
-        testWithRandomQuestions.setDescription(test.getDescription());
-        testWithRandomQuestions.setTestType(test.getTestType());
-        testWithRandomQuestions.setQuestionsToShow(test.getQuestionsToShow());
-        testWithRandomQuestions.setQuestions(randomQuestions);
+        return questionBank.sample("cognitive_skills", "Cognitive skills test not found");
+    }
 
-        return TestMapper.toResponse(testWithRandomQuestions);
+    @Override
+    public SerializedTestResponse getSerializedCognitiveSkillsTest() {
+        return questionBank.sampleSerialized("cognitive_skills", "Cognitive skills test not found");
     }
 
     @Override
@@ -288,18 +228,9 @@ public class EvaluationServiceImpl implements EvaluationService {
         Map<String, Integer> cognitiveScores = new HashMap<>();
         Map<String, Integer> cognitiveMaxScores = new HashMap<>();
 
-        for (UserAnswerRequest answerReq : request.getAnswers()) {
-            Question question = questionRepository.findById(answerReq.getQuestionId())
-                    .orElseThrow(() -> new EntityNotFoundException("Question not found"));
-
-            AnswerOption option = answerOptionRepository.findById(answerReq.getOptionId())
-                    .orElseThrow(() -> new EntityNotFoundException("Answer option not found"));
-
-            UserAnswer userAnswer = new UserAnswer();
-            userAnswer.setEvaluation(evaluation);
-            userAnswer.setQuestion(question);
-            userAnswer.setOption(option);
-            userAnswerRepository.save(userAnswer);
+        for (UserAnswer userAnswer : saveAnswers(evaluation, test, request)) {
+            Question question = userAnswer.getQuestion();
+            AnswerOption option = userAnswer.getOption();
 
             if (option.getCategory() != null && option.getWeightValue() != null) {
                 String category = option.getCategory();
@@ -317,7 +248,7 @@ public class EvaluationServiceImpl implements EvaluationService {
             }
         }
 
-        Map<String, Object> areaScores = new HashMap<>();
+        Map<String, CognitiveOutcome.AreaLevel> areaScores = new HashMap<>();
         for (String category : cognitiveScores.keySet()) {
             int score = cognitiveScores.get(category);
             int maxScore = cognitiveMaxScores.get(category);
@@ -327,37 +258,27 @@ public class EvaluationServiceImpl implements EvaluationService {
 
             String level = determineLevel(percentage);
 
-            Map<String, Object> areaData = new HashMap<>();
-            areaData.put("score", percentage);
-            areaData.put("level", level);
-            areaScores.put(category, areaData);
+            areaScores.put(category, new CognitiveOutcome.AreaLevel(percentage, level));
         }
 
         BigDecimal totalScore = cognitiveScores.isEmpty() ? BigDecimal.ZERO :
                 areaScores.values().stream()
-                        .map(v -> ((Map<String, Object>) v).get("score"))
-                        .map(s -> (BigDecimal) s)
+                        .map(CognitiveOutcome.AreaLevel::score)
                         .reduce(BigDecimal.ZERO, BigDecimal::add)
                         .divide(BigDecimal.valueOf(areaScores.size()), 2, BigDecimal.ROUND_HALF_UP);
 
         evaluation.setTotalScore(totalScore);
         evaluation = completedEvaluationRepository.save(evaluation);
 
-        Map<String, Object> resultData = new HashMap<>();
-        resultData.put("cognitiveAreas", areaScores);
-        resultData.put("overallLevel", determineLevel(totalScore));
+        CognitiveOutcome resultData = new CognitiveOutcome(areaScores, determineLevel(totalScore));
 
-        EvaluationResult result = new EvaluationResult();
-        result.setEvaluation(evaluation);
-        try {
-            result.setResultJson(objectMapper.writeValueAsString(resultData));
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Error processing result", e);
-        }
-        EvaluationResult savedResult = evaluationResultRepository.save(result);
+        EvaluationResult savedResult = saveResult(evaluation, resultData);
 
         evaluation.setEvaluationResult(savedResult);
 
+        // Las recomendaciones en caché ya no reflejan la nueva evaluación
+        recommendationCache.invalidateUser(userId);
+
         return EvaluationMapper.toResultResponse(evaluation);
     }
 
@@ -403,18 +324,9 @@ public class EvaluationServiceImpl implements EvaluationService {
                         .build())
                 .collect(Collectors.toList());
 
-        // Parsear el resultado del análisis
-        Object analysisResult = null;
-        if (evaluation.getEvaluationResult() != null &&
-                evaluation.getEvaluationResult().getResultJson() != null) {
-            try {
-                analysisResult = objectMapper.readValue(
-                        evaluation.getEvaluationResult().getResultJson(),
-                        Object.class);
-            } catch (JsonProcessingException e) {
-                // Si hay error al parsear, simplemente dejamos null
-            }
-        }
+        // Resultado del análisis (ya tipado por el mapeo JSONB)
+        EvaluationOutcome analysisResult = evaluation.getEvaluationResult() != null ?
+                evaluation.getEvaluationResult().getOutcome() : null;
 
         return EvaluationDetailResponse.builder()
                 .evaluationId(evaluation.getId())
@@ -430,20 +342,69 @@ public class EvaluationServiceImpl implements EvaluationService {
 
     // Métodos auxiliares
 
-    private BigDecimal calculateAverageScore(Map<String, Object> personalityAnalysis) {
-        if (personalityAnalysis == null || !personalityAnalysis.containsKey("dimensions")) {
+    /**
+     * Resuelve todas las preguntas y opciones referenciadas en una sola consulta,
+     * valida en memoria que pertenezcan al test y guarda las respuestas en un único batch JDBC.
+     */
+    private List<UserAnswer> saveAnswers(CompletedEvaluation evaluation, Test test, SubmitTestRequest request) {
+        Set<Integer> questionIds = request.getAnswers().stream()
+                .map(UserAnswerRequest::getQuestionId)
+                .collect(Collectors.toSet());
+
+        if (questionIds.size() != request.getAnswers().size()) {
+            throw new IllegalArgumentException("Each question can only be answered once");
+        }
+
+        Map<Integer, Question> questions = questionRepository.findAllWithOptionsByIdIn(questionIds).stream()
+                .collect(Collectors.toMap(Question::getId, Function.identity()));
+
+        List<UserAnswer> userAnswers = new ArrayList<>(request.getAnswers().size());
+        for (UserAnswerRequest answerReq : request.getAnswers()) {
+            Question question = questions.get(answerReq.getQuestionId());
+            if (question == null) {
+                throw new EntityNotFoundException("Question not found");
+            }
+
+            if (!test.getId().equals(question.getTest().getId())) {
+                throw new IllegalArgumentException("Question " + question.getId() + " does not belong to this test");
+            }
+
+            AnswerOption option = question.getAnswerOptions().stream()
+                    .filter(o -> o.getId().equals(answerReq.getOptionId()))
+                    .findFirst()
+                    .orElseThrow(() -> new EntityNotFoundException("Answer option not found"));
+
+            UserAnswer userAnswer = new UserAnswer();
+            userAnswer.setEvaluation(evaluation);
+            userAnswer.setQuestion(question);
+            userAnswer.setOption(option);
+            userAnswers.add(userAnswer);
+        }
+
+        return userAnswerRepository.saveAll(userAnswers);
+    }
+
+    private EvaluationResult saveResult(CompletedEvaluation evaluation, EvaluationOutcome outcome) {
+        EvaluationResult result = new EvaluationResult();
+        result.setEvaluation(evaluation);
+        result.setOutcome(outcome);
+        result.setResultBinary(outcomeCodec.encode(outcome));
+        return evaluationResultRepository.save(result);
+    }
+
+    private BigDecimal calculateAverageScore(PersonalityOutcome personalityAnalysis) {
+        if (personalityAnalysis == null || personalityAnalysis.dimensions() == null) {
             return BigDecimal.ZERO;
         }
 
-        @SuppressWarnings("unchecked")
-        Map<String, Object> dimensions = (Map<String, Object>) personalityAnalysis.get("dimensions");
+        Map<String, Double> dimensions = personalityAnalysis.dimensions();
 
         if (dimensions.isEmpty()) {
             return BigDecimal.ZERO;
         }
 
         double sum = dimensions.values().stream()
-                .mapToDouble(v -> v instanceof Number ? ((Number) v).doubleValue() : 0.0)
+                .mapToDouble(v -> v != null ? v : 0.0)
                 .sum();
 
         return BigDecimal.valueOf(sum / dimensions.size()).setScale(2, BigDecimal.ROUND_HALF_UP);
@@ -1,6 +1,7 @@
 package compass.career.careercompass.service;
 
 import compass.career.careercompass.dto.FavoriteCareerRequest;
+import compass.career.careercompass.dto.CursorPageResponse;
 import compass.career.careercompass.dto.FavoriteCareerResponse;
 import compass.career.careercompass.mapper.CareerMapper;
 import compass.career.careercompass.model.Career;
@@ -12,14 +13,10 @@ import compass.career.careercompass.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -76,17 +73,19 @@ public class FavoriteCareerServiceImpl implements FavoriteCareerService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<FavoriteCareerResponse> getFavoriteCareers(Integer userId, int page, int pageSize) {
-        log.debug("Finding favorite careers for user {} with pagination - page: {}, pageSize: {}",
-                userId, page, pageSize);
+    public CursorPageResponse<FavoriteCareerResponse> getFavoriteCareers(Integer userId, String cursor, int pageSize) {
+        log.debug("Finding favorite careers for user {} after cursor {} - pageSize: {}",
+                userId, cursor, pageSize);
 
-        Pageable pageable = PageRequest.of(page, pageSize);
+        KeysetCursor after = KeysetCursor.decode(cursor);
 
-        List<FavoriteCareerResponse> favorites = favoriteCareerRepository.findByUserIdAndActiveTrue(userId, pageable).stream()
-                .map(CareerMapper::toFavoriteResponse)
-                .collect(Collectors.toList());
+        CursorPageResponse<FavoriteCareerResponse> favorites = KeysetCursor.toResponse(
+                favoriteCareerRepository.findByUserIdAndActiveTrueAndIdGreaterThanOrderByIdAsc(
+                        userId, after.id(), KeysetCursor.firstPage(pageSize)),
+                CareerMapper::toFavoriteResponse,
+                f -> new KeysetCursor(null, f.getId()));
 
-        if (favorites.isEmpty()) {
+        if (favorites.getItems().isEmpty() && after.isStart()) {
             throw new IllegalArgumentException("There are no favorite careers registered for this user.");
         }
 
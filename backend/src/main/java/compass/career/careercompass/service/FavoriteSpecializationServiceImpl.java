@@ -1,6 +1,7 @@
 package compass.career.careercompass.service;
 
 import compass.career.careercompass.dto.FavoriteSpecializationRequest;
+import compass.career.careercompass.dto.CursorPageResponse;
 import compass.career.careercompass.dto.FavoriteSpecializationResponse;
 import compass.career.careercompass.mapper.SpecializationMapper;
 import compass.career.careercompass.model.FavoriteSpecialization;
@@ -12,14 +13,10 @@ import compass.career.careercompass.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -78,17 +75,19 @@ public class FavoriteSpecializationServiceImpl implements FavoriteSpecialization
 
     @Override
     @Transactional(readOnly = true)
-    public List<FavoriteSpecializationResponse> getFavoriteSpecializations(Integer userId, int page, int pageSize) {
-        log.debug("Finding favorite specializations for user {} with pagination - page: {}, pageSize: {}",
-                userId, page, pageSize);
+    public CursorPageResponse<FavoriteSpecializationResponse> getFavoriteSpecializations(Integer userId, String cursor, int pageSize) {
+        log.debug("Finding favorite specializations for user {} after cursor {} - pageSize: {}",
+                userId, cursor, pageSize);
 
-        Pageable pageable = PageRequest.of(page, pageSize);
+        KeysetCursor after = KeysetCursor.decode(cursor);
 
-        List<FavoriteSpecializationResponse> favorites = favoriteSpecializationRepository.findByUserIdAndActiveTrue(userId, pageable).stream()
-                .map(SpecializationMapper::toFavoriteResponse)
-                .collect(Collectors.toList());
+        CursorPageResponse<FavoriteSpecializationResponse> favorites = KeysetCursor.toResponse(
+                favoriteSpecializationRepository.findByUserIdAndActiveTrueAndIdGreaterThanOrderByIdAsc(
+                        userId, after.id(), KeysetCursor.firstPage(pageSize)),
+                SpecializationMapper::toFavoriteResponse,
+                f -> new KeysetCursor(null, f.getId()));
 
-        if (favorites.isEmpty()) {
+        if (favorites.getItems().isEmpty() && after.isStart()) {
             throw new IllegalArgumentException("There are no favorite specializations registered for this user.");
         }
 
@@ -1,17 +1,29 @@
 package compass.career.careercompass.service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import compass.career.careercompass.model.CognitiveOutcome;
+import compass.career.careercompass.model.PersonalityOutcome;
+import compass.career.careercompass.model.VocationalOutcome;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.*;
+import okio.BufferedSource;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientResponseException;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Service
 @Slf4j
@@ -24,6 +36,9 @@ public class GroqService {
     private final Integer maxTokens;
     private final Double temperature;
     private final ObjectMapper objectMapper;
+    private final UpstreamGuard upstreamGuard;
+    private final PromptEncoder promptEncoder;
+    private final MeterRegistry meterRegistry;
     private final MediaType JSON = MediaType.get("application/json; charset=utf-8");
 
     public GroqService(
@@ -32,7 +47,10 @@ public class GroqService {
             @Value("${groq.model}") String model,
             @Value("${groq.max-tokens}") Integer maxTokens,
             @Value("${groq.temperature}") Double temperature,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            UpstreamGuard upstreamGuard,
+            PromptEncoder promptEncoder,
+            MeterRegistry meterRegistry) {
 
         this.apiKey = apiKey;
         this.apiUrl = apiUrl;
@@ -40,6 +58,9 @@ public class GroqService {
         this.maxTokens = maxTokens;
         this.temperature = temperature;
         this.objectMapper = objectMapper;
+        this.upstreamGuard = upstreamGuard;
+        this.promptEncoder = promptEncoder;
+        this.meterRegistry = meterRegistry;
 
         this.client = new OkHttpClient.Builder()
                 .connectTimeout(30, TimeUnit.SECONDS)
@@ -54,9 +75,9 @@ public class GroqService {
      * Genera recomendaciones de carreras usando Groq AI
      */
     public List<CareerRecommendation> generateCareerRecommendations(
-            Map<String, Object> personalityResults,
-            Map<String, Object> vocationalResults,
-            Map<String, Object> cognitiveResults,
+            PersonalityOutcome personalityResults,
+            VocationalOutcome vocationalResults,
+            CognitiveOutcome cognitiveResults,
             List<CareerInfo> availableCareers) {
 
         log.info("Generating career recommendations for {} careers using Groq AI", availableCareers.size());
@@ -70,176 +91,170 @@ public class GroqService {
 
         try {
             // Construir el request JSON
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", model);
-            requestBody.put("temperature", temperature);
-            requestBody.put("max_tokens", maxTokens);
-            requestBody.put("response_format", Map.of("type", "json_object"));
-
-            List<Map<String, String>> messages = new ArrayList<>();
-            messages.add(Map.of(
-                    "role", "system",
-                    "content", "Eres un consejero vocacional experto que analiza perfiles de estudiantes basados en:\n" +
-                            "1. Test de Personalidad (Modelo RIASEC)\n" +
-                            "2. Test de Intereses Vocacionales\n" +
-                            "3. Test de Habilidades Cognitivas\n\n" +
-                            "Tu tarea es analizar estos resultados y recomendar las carreras más compatibles.\n" +
-                            "IMPORTANTE: Debes devolver SOLO un JSON válido sin texto adicional."
-            ));
-            messages.add(Map.of(
-                    "role", "user",
-                    "content", prompt
-            ));
-            requestBody.put("messages", messages);
+            Map<String, Object> requestBody = careerRequestBody(prompt, false);
 
             String jsonBody = objectMapper.writeValueAsString(requestBody);
 
             // Hacer la petición HTTP
-            Request request = new Request.Builder()
-                    .url(apiUrl)
-                    .addHeader("Authorization", "Bearer " + apiKey)
-                    .addHeader("Content-Type", "application/json")
-                    .post(RequestBody.create(jsonBody, JSON))
-                    .build();
-
-            try (Response response = client.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    throw new RuntimeException("Groq API error: " + response.code() + " - " + response.body().string());
-                }
+            String responseBody = execute(jsonBody);
 
-                String responseBody = response.body().string();
-                log.debug("Groq API raw response: {}", responseBody);
-
-                // Parsear respuesta
-                Map<String, Object> jsonResponse = objectMapper.readValue(responseBody, new TypeReference<Map<String, Object>>() {});
+            // Parsear respuesta
+            Map<String, Object> jsonResponse = objectMapper.readValue(responseBody, new TypeReference<Map<String, Object>>() {});
 
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> choices = (List<Map<String, Object>>) jsonResponse.get("choices");
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> choices = (List<Map<String, Object>>) jsonResponse.get("choices");
 
-                @SuppressWarnings("unchecked")
-                Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-                String content = (String) message.get("content");
+            @SuppressWarnings("unchecked")
+            Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
+            String content = (String) message.get("content");
 
-                // Parsear el contenido JSON
-                Map<String, Object> contentJson = objectMapper.readValue(content, new TypeReference<Map<String, Object>>() {});
+            // Parsear el contenido JSON
+            Map<String, Object> contentJson = objectMapper.readValue(content, new TypeReference<Map<String, Object>>() {});
 
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> recommendations = (List<Map<String, Object>>) contentJson.get("recommendations");
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> recommendations = (List<Map<String, Object>>) contentJson.get("recommendations");
 
-                List<CareerRecommendation> result = new ArrayList<>();
-                for (Map<String, Object> rec : recommendations) {
-                    CareerRecommendation recommendation = new CareerRecommendation();
-                    recommendation.setCareerId(((Number) rec.get("careerId")).intValue());
-                    recommendation.setCompatibilityPercentage(((Number) rec.get("compatibilityPercentage")).doubleValue());
-                    recommendation.setReason((String) rec.get("reason"));
+            List<CareerRecommendation> result = new ArrayList<>();
+            for (Map<String, Object> rec : recommendations) {
+                CareerRecommendation recommendation = toCareerRecommendation(rec, availableCareers);
+                if (recommendation != null) {
                     result.add(recommendation);
                 }
+            }
 
-                // Log de uso
-                @SuppressWarnings("unchecked")
-                Map<String, Object> usage = (Map<String, Object>) jsonResponse.get("usage");
-                log.info("Groq API - Total tokens: {}, Prompt tokens: {}, Completion tokens: {}",
-                        usage.get("total_tokens"), usage.get("prompt_tokens"), usage.get("completion_tokens"));
+            // Uso de tokens
+            recordUsage("career", usage(jsonResponse));
 
-                log.info("Successfully generated {} career recommendations", result.size());
-                return result;
-            }
+            log.info("Successfully generated {} career recommendations", result.size());
+            return result;
 
+        } catch (UpstreamGuard.RejectedCallException e) {
+            // Circuito abierto o límite excedido: se falla rápido sin envolver la excepción
+            throw e;
         } catch (Exception e) {
             log.error("Error calling Groq API", e);
             throw new RuntimeException("Failed to generate career recommendations: " + e.getMessage(), e);
         }
     }
 
-    private String buildRecommendationPrompt(
-            Map<String, Object> personalityResults,
-            Map<String, Object> vocationalResults,
-            Map<String, Object> cognitiveResults,
-            List<CareerInfo> availableCareers) {
+    /**
+     * Igual que {@link #generateCareerRecommendations}, pero con la respuesta en streaming:
+     * cada recomendación se entrega a {@code onRecommendation} en cuanto Groq termina de
+     * generarla. Devuelve la lista completa al final.
+     */
+    public List<CareerRecommendation> streamCareerRecommendations(
+            PersonalityOutcome personalityResults,
+            VocationalOutcome vocationalResults,
+            CognitiveOutcome cognitiveResults,
+            List<CareerInfo> availableCareers,
+            Consumer<CareerRecommendation> onRecommendation) {
 
-        StringBuilder prompt = new StringBuilder();
-        prompt.append("# PERFIL DEL ESTUDIANTE\n\n");
+        log.info("Streaming career recommendations for {} careers using Groq AI", availableCareers.size());
 
-        // Test de Personalidad
-        if (personalityResults != null && !personalityResults.isEmpty()) {
-            prompt.append("## 1. Test de Personalidad (Modelo RIASEC):\n");
-            @SuppressWarnings("unchecked")
-            Map<String, Object> dimensions = (Map<String, Object>) personalityResults.get("dimensions");
-            if (dimensions != null) {
-                dimensions.forEach((category, score) ->
-                        prompt.append(String.format("- %s: %.1f%%\n", category, ((Number) score).doubleValue()))
-                );
-            }
-            prompt.append("\n");
-        }
+        String prompt = buildRecommendationPrompt(
+                personalityResults,
+                vocationalResults,
+                cognitiveResults,
+                availableCareers
+        );
 
-        // Test de Intereses Vocacionales
-        if (vocationalResults != null && !vocationalResults.isEmpty()) {
-            prompt.append("## 2. Test de Intereses Vocacionales:\n");
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> topAreas = (List<Map<String, Object>>) vocationalResults.get("topAreas");
-            if (topAreas != null) {
-                for (Map<String, Object> area : topAreas) {
-                    prompt.append(String.format("- %s: %.1f%%\n",
-                            area.get("area"),
-                            ((Number) area.get("percentage")).doubleValue()));
+        try {
+            String jsonBody = objectMapper.writeValueAsString(careerRequestBody(prompt, true));
+
+            List<CareerRecommendation> result = new ArrayList<>();
+            RecommendationStreamParser parser = new RecommendationStreamParser(objectMapper, "recommendations", rec -> {
+                CareerRecommendation recommendation = toCareerRecommendation(rec, availableCareers);
+                if (recommendation != null) {
+                    result.add(recommendation);
+                    onRecommendation.accept(recommendation);
                 }
-            }
-            prompt.append("\n");
+            });
+
+            Map<String, Object> usage = executeStream(jsonBody, parser);
+            parser.finish();
+
+            // Uso de tokens
+            recordUsage("career-stream", usage);
+
+            log.info("Successfully streamed {} career recommendations", result.size());
+            return result;
+
+        } catch (UpstreamGuard.RejectedCallException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error streaming from Groq API", e);
+            throw new RuntimeException("Failed to generate career recommendations: " + e.getMessage(), e);
         }
+    }
 
-        // Test de Habilidades Cognitivas
-        if (cognitiveResults != null && !cognitiveResults.isEmpty()) {
-            prompt.append("## 3. Test de Habilidades Cognitivas:\n");
-            @SuppressWarnings("unchecked")
-            Map<String, Object> cognitiveAreas = (Map<String, Object>) cognitiveResults.get("cognitiveAreas");
-            if (cognitiveAreas != null) {
-                cognitiveAreas.forEach((area, data) -> {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> areaData = (Map<String, Object>) data;
-                    prompt.append(String.format("- %s: %.1f%% (Nivel: %s)\n",
-                            area,
-                            ((Number) areaData.get("score")).doubleValue(),
-                            areaData.get("level")));
-                });
-            }
-            prompt.append("\n");
+    // JSON mode no admite streaming en Groq; en ese caso el formato lo fija solo el prompt
+    private Map<String, Object> careerRequestBody(String prompt, boolean stream) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", model);
+        requestBody.put("temperature", temperature);
+        requestBody.put("max_tokens", maxTokens);
+        if (stream) {
+            requestBody.put("stream", true);
+            requestBody.put("stream_options", Map.of("include_usage", true));
+        } else {
+            requestBody.put("response_format", Map.of("type", "json_object"));
         }
 
-        // Carreras disponibles
-        prompt.append("# CARRERAS DISPONIBLES\n\n");
-        for (CareerInfo career : availableCareers) {
-            prompt.append(String.format("- **ID:** %d | **Nombre:** %s | **Duración:** %d semestres | **Salario promedio:** $%.2f\n",
-                    career.getId(),
-                    career.getName(),
-                    career.getDurationSemesters(),
-                    career.getAverageSalary() != null ? career.getAverageSalary().doubleValue() : 0.0
-            ));
-            if (career.getDescription() != null && !career.getDescription().isEmpty()) {
-                prompt.append(String.format("  Descripción: %s\n", career.getDescription()));
-            }
+        List<Map<String, String>> messages = new ArrayList<>();
+        messages.add(Map.of(
+                "role", "system",
+                "content", "Eres un consejero vocacional experto que analiza perfiles de estudiantes basados en:\n" +
+                        "1. Test de Personalidad (Modelo RIASEC)\n" +
+                        "2. Test de Intereses Vocacionales\n" +
+                        "3. Test de Habilidades Cognitivas\n\n" +
+                        "Tu tarea es analizar estos resultados y recomendar las carreras más compatibles.\n" +
+                        "IMPORTANTE: Debes devolver SOLO un JSON válido sin texto adicional."
+        ));
+        messages.add(Map.of(
+                "role", "user",
+                "content", prompt
+        ));
+        requestBody.put("messages", messages);
+        return requestBody;
+    }
+
+    private CareerRecommendation toCareerRecommendation(Map<String, Object> rec, List<CareerInfo> availableCareers) {
+        CareerInfo career = promptEncoder.resolve(availableCareers, (Number) rec.get("careerId"));
+        if (career == null) {
+            log.warn("Groq API returned unknown career position: {}", rec.get("careerId"));
+            return null;
+        }
+
+        CareerRecommendation recommendation = new CareerRecommendation();
+        recommendation.setCareerId(career.getId());
+        recommendation.setCompatibilityPercentage(((Number) rec.get("compatibilityPercentage")).doubleValue());
+        recommendation.setReason((String) rec.get("reason"));
+        return recommendation;
+    }
+
+    private String buildRecommendationPrompt(
+            PersonalityOutcome personalityResults,
+            VocationalOutcome vocationalResults,
+            CognitiveOutcome cognitiveResults,
+            List<CareerInfo> availableCareers) {
+
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("# PERFIL (0-100)\n");
+        prompt.append("P=personalidad O,C,E,A,N; V=intereses vocacionales; G=habilidades cognitivas\n");
+        prompt.append(promptEncoder.profile(personalityResults, vocationalResults, cognitiveResults));
+
+        // Carreras disponibles, identificadas por su posición
+        prompt.append("\n# CARRERAS (n|nombre|semestres|salario|descripción)\n");
+        for (int i = 0; i < availableCareers.size(); i++) {
+            prompt.append(i + 1).append('|').append(promptEncoder.careerLine(availableCareers.get(i))).append('\n');
         }
 
-        prompt.append("\n# INSTRUCCIONES\n\n");
-        prompt.append("1. Analiza la compatibilidad entre el perfil del estudiante y cada carrera disponible\n");
-        prompt.append("2. Considera TODOS los factores: personalidad RIASEC, intereses vocacionales y habilidades cognitivas\n");
-        prompt.append("3. Calcula un porcentaje de compatibilidad (0-100) para cada carrera\n");
-        prompt.append("4. El porcentaje debe reflejar qué tan bien el perfil del estudiante encaja con los requisitos típicos de cada carrera\n");
-        prompt.append("5. Ordena las carreras de mayor a menor compatibilidad\n");
-        prompt.append("6. Devuelve SOLO las TOP 10 carreras más compatibles\n");
-        prompt.append("7. Para cada carrera incluye una razón específica y personalizada (2-3 oraciones) explicando por qué es compatible\n\n");
-
-        prompt.append("# FORMATO DE RESPUESTA\n\n");
-        prompt.append("Devuelve ÚNICAMENTE un JSON con este formato exacto:\n\n");
-        prompt.append("{\n");
-        prompt.append("  \"recommendations\": [\n");
-        prompt.append("    {\n");
-        prompt.append("      \"careerId\": 1,\n");
-        prompt.append("      \"compatibilityPercentage\": 95.5,\n");
-        prompt.append("      \"reason\": \"Tu alto puntaje en Investigador (92%) combinado con tu interés en Ciencias Exactas (88%) y tus fuertes habilidades de razonamiento lógico (85%) indican una excelente compatibilidad con esta carrera.\"\n");
-        prompt.append("    }\n");
-        prompt.append("  ]\n");
-        prompt.append("}\n");
+        prompt.append("\n# INSTRUCCIONES\n");
+        prompt.append("Calcula la compatibilidad (0-100) del perfil con cada carrera considerando personalidad, ");
+        prompt.append("intereses y habilidades cognitivas. Devuelve SOLO las TOP 10, de mayor a menor, ");
+        prompt.append("con una razón personalizada de 2-3 oraciones que cite los puntajes relevantes.\n");
+        prompt.append("JSON exacto: {\"recommendations\":[{\"careerId\":n,\"compatibilityPercentage\":95.5,\"reason\":\"...\"}]}\n");
+        prompt.append("careerId es el número n de la lista.\n");
 
         return prompt.toString();
     }
@@ -288,7 +303,14 @@ public class GroqService {
      * Método genérico para llamar a Groq API con cualquier prompt
      */
     public String callGroqAPI(String userPrompt, String systemPrompt) throws Exception {
-        log.info("Calling Groq API with generic prompt");
+        return callGroqAPI(userPrompt, systemPrompt, "generic");
+    }
+
+    /**
+     * Igual que {@link #callGroqAPI(String, String)}; {@code operation} etiqueta las métricas de uso.
+     */
+    public String callGroqAPI(String userPrompt, String systemPrompt, String operation) throws Exception {
+        log.info("Calling Groq API with {} prompt", operation);
 
         // Construir el request JSON
         Map<String, Object> requestBody = new HashMap<>();
@@ -305,6 +327,58 @@ public class GroqService {
         String jsonBody = objectMapper.writeValueAsString(requestBody);
 
         // Hacer la petición HTTP
+        String responseBody = execute(jsonBody);
+
+        // Parsear respuesta
+        Map<String, Object> jsonResponse = objectMapper.readValue(responseBody, new TypeReference<Map<String, Object>>() {});
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> choices = (List<Map<String, Object>>) jsonResponse.get("choices");
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
+
+        // Uso de tokens
+        recordUsage(operation, usage(jsonResponse));
+
+        return (String) message.get("content");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> usage(Map<String, Object> jsonResponse) {
+        return (Map<String, Object>) jsonResponse.get("usage");
+    }
+
+    /**
+     * Registra los tokens usados en el histograma {@code groq.tokens} (por tipo y operación).
+     */
+    private void recordUsage(String operation, Map<String, Object> usage) {
+        if (usage == null) {
+            log.warn("Groq API response without usage data");
+            return;
+        }
+
+        log.info("Groq API - Total tokens: {}, Prompt tokens: {}, Completion tokens: {}",
+                usage.get("total_tokens"), usage.get("prompt_tokens"), usage.get("completion_tokens"));
+
+        for (String type : List.of("prompt", "completion", "total")) {
+            if (usage.get(type + "_tokens") instanceof Number tokens) {
+                DistributionSummary.builder("groq.tokens")
+                        .description("Tokens usados por llamada a Groq")
+                        .baseUnit("tokens")
+                        .tag("type", type)
+                        .tag("operation", operation)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(tokens.doubleValue());
+            }
+        }
+    }
+
+    /**
+     * Envía la petición a Groq a través del {@link UpstreamGuard} y devuelve el cuerpo de la respuesta.
+     */
+    private String execute(String jsonBody) throws Exception {
         Request request = new Request.Builder()
                 .url(apiUrl)
                 .addHeader("Authorization", "Bearer " + apiKey)
@@ -312,30 +386,72 @@ public class GroqService {
                 .post(RequestBody.create(jsonBody, JSON))
                 .build();
 
-        try (Response response = client.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                throw new RuntimeException("Groq API error: " + response.code() + " - " + response.body().string());
-            }
-
-            String responseBody = response.body().string();
-            log.debug("Groq API raw response: {}", responseBody);
+        return upstreamGuard.call(UpstreamGuard.GROQ, () -> {
+            try (Response response = client.newCall(request).execute()) {
+                if (!response.isSuccessful()) {
+                    throw apiError(response);
+                }
 
-            // Parsear respuesta
-            Map<String, Object> jsonResponse = objectMapper.readValue(responseBody, new TypeReference<Map<String, Object>>() {});
+                String responseBody = response.body().string();
+                log.debug("Groq API raw response: {}", responseBody);
+                return responseBody;
+            }
+        });
+    }
 
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> choices = (List<Map<String, Object>>) jsonResponse.get("choices");
+    // Con el código HTTP, para que UpstreamGuard distinga un 4xx de un fallo de Groq
+    private static RestClientResponseException apiError(Response response) throws IOException {
+        String body = response.body().string();
+        return new RestClientResponseException("Groq API error: " + response.code() + " - " + body,
+                HttpStatusCode.valueOf(response.code()), response.message(), null,
+                body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
+    /**
+     * Envía una petición con {@code stream: true} y pasa el contenido de cada evento SSE al
+     * parser. Devuelve el uso de tokens del último evento (o null si Groq no lo informa).
+     */
+    private Map<String, Object> executeStream(String jsonBody, RecommendationStreamParser parser) throws Exception {
+        Request request = new Request.Builder()
+                .url(apiUrl)
+                .addHeader("Authorization", "Bearer " + apiKey)
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Accept", "text/event-stream")
+                .post(RequestBody.create(jsonBody, JSON))
+                .build();
 
-            // Log de uso
-            @SuppressWarnings("unchecked")
-            Map<String, Object> usage = (Map<String, Object>) jsonResponse.get("usage");
-            log.info("Groq API - Total tokens: {}, Prompt tokens: {}, Completion tokens: {}",
-                    usage.get("total_tokens"), usage.get("prompt_tokens"), usage.get("completion_tokens"));
+        return upstreamGuard.call(UpstreamGuard.GROQ, () -> {
+            try (Response response = client.newCall(request).execute()) {
+                if (!response.isSuccessful()) {
+                    throw apiError(response);
+                }
 
-            return (String) message.get("content");
-        }
+                Map<String, Object> usage = null;
+                BufferedSource source = response.body().source();
+                String line;
+                while ((line = source.readUtf8Line()) != null) {
+                    if (!line.startsWith("data:")) {
+                        continue;
+                    }
+                    String data = line.substring(5).trim();
+                    if ("[DONE]".equals(data)) {
+                        break;
+                    }
+
+                    JsonNode chunk = objectMapper.readTree(data);
+                    JsonNode content = chunk.path("choices").path(0).path("delta").path("content");
+                    if (content.isTextual()) {
+                        parser.feed(content.asText());
+                    }
+
+                    // Groq informa el uso en "usage" o en "x_groq.usage" del último evento
+                    JsonNode chunkUsage = chunk.path("usage").isObject() ? chunk.path("usage") : chunk.path("x_groq").path("usage");
+                    if (chunkUsage.isObject()) {
+                        usage = objectMapper.convertValue(chunkUsage, new TypeReference<Map<String, Object>>() {});
+                    }
+                }
+                return usage;
+            }
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package compass.career.careercompass.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Publica por ruta (host) las conexiones en uso, en espera y disponibles del pool de RestTemplate.
+ * Las rutas aparecen a medida que se usan, por eso los gauges se refrescan periódicamente.
+ */
+@Component
+public class HttpClientPoolMetrics {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final MultiGauge routeConnections;
+
+    public HttpClientPoolMetrics(PoolingHttpClientConnectionManager restConnectionManager, MeterRegistry meterRegistry) {
+        this.connectionManager = restConnectionManager;
+        this.routeConnections = MultiGauge.builder("httpcomponents.httpclient.pool.route.connections")
+                .description("Conexiones del pool de RestTemplate por ruta y estado")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${http.client.metrics-refresh-ms:15000}")
+    public void refresh() {
+        List<MultiGauge.Row<?>> rows = new ArrayList<>();
+
+        for (HttpRoute route : connectionManager.getRoutes()) {
+            PoolStats stats = connectionManager.getStats(route);
+            String host = route.getTargetHost().toHostString();
+            rows.add(MultiGauge.Row.of(Tags.of("route", host, "state", "leased"), stats.getLeased()));
+            rows.add(MultiGauge.Row.of(Tags.of("route", host, "state", "pending"), stats.getPending()));
+            rows.add(MultiGauge.Row.of(Tags.of("route", host, "state", "available"), stats.getAvailable()));
+        }
+
+        routeConnections.register(rows, true);
+    }
+}
@@ -1,44 +1,108 @@
 package compass.career.careercompass.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import compass.career.careercompass.configuration.AuthenticatedUser;
+import compass.career.careercompass.model.User;
+import compass.career.careercompass.repository.SessionRepository;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
 
 @Service
+@Slf4j
 public class JwtService {
 
-    @Value("${security.jwt.secret-key}")
-    private String secretKey;
-
-    @Value("${security.jwt.expiration-time}")
-    private long jwtExpiration;
-
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
-
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+
+    private final long jwtExpiration;
+    private final TokenRevocationList revocationList;
+    private final SessionRepository sessionRepository;
+
+    // La clave y el parser son inmutables y thread-safe: se construyen una sola vez
+    private final Key signInKey;
+    private final JwtParser jwtParser;
+
+    // Tokens ya verificados (hash SHA-256 -> claims), hasta que expiran
+    private final Cache<String, AuthenticatedUser> verifiedTokens;
+    private final long sessionSyncOverlapMs;
+    private volatile LocalDateTime lastSessionSync = LocalDateTime.now();
+
+    public JwtService(@Value("${security.jwt.secret-key}") String secretKey,
+                      @Value("${security.jwt.expiration-time}") long jwtExpiration,
+                      @Value("${security.jwt.verified-cache-size:10000}") long verifiedCacheSize,
+                      @Value("${security.jwt.session-sync-interval-ms:5000}") long sessionSyncIntervalMs,
+                      TokenRevocationList revocationList,
+                      SessionRepository sessionRepository,
+                      MeterRegistry meterRegistry) {
+        this.jwtExpiration = jwtExpiration;
+        this.revocationList = revocationList;
+        this.sessionRepository = sessionRepository;
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new Expiry<String, AuthenticatedUser>() {
+                    @Override
+                    public long expireAfterCreate(String key, AuthenticatedUser user, long currentTime) {
+                        long remainingMs = Math.max(user.getExpiresAt().getTime() - System.currentTimeMillis(), 0);
+                        return remainingMs * 1_000_000;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, AuthenticatedUser user, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, AuthenticatedUser user, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        // Margen para tolerar desfase de relojes entre nodos al consultar sesiones desactivadas
+        this.sessionSyncOverlapMs = sessionSyncIntervalMs * 2;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified-tokens");
     }
 
-    public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
-    }
-
-    public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return buildToken(extraClaims, userDetails, jwtExpiration);
+    /**
+     * Genera un token con el id y el rol del usuario como claims, para autenticar
+     * las peticiones sin consultar la base de datos.
+     */
+    public String generateToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(ROLE_CLAIM, user.getRole().getName());
+        return buildToken(claims, user.getEmail(), jwtExpiration);
     }
 
     public long getExpirationTime() {
@@ -47,43 +111,110 @@ public class JwtService {
 
     private String buildToken(
             Map<String, Object> extraClaims,
-            UserDetails userDetails,
+            String subject,
             long expiration
     ) {
+        long now = System.currentTimeMillis();
         return Jwts
                 .builder()
                 .setClaims(extraClaims)
-                .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .setId(UUID.randomUUID().toString())
+                .setSubject(subject)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiration))
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    /**
+     * Devuelve el usuario autenticado del token. La primera vez verifica firma y expiración,
+     * comprueba que su sesión no esté desactivada y guarda el resultado en caché; las siguientes
+     * peticiones con el mismo token solo consultan la caché y la lista de revocación.
+     * Los tokens emitidos antes de incluir "uid" devuelven un usuario sin id ni rol.
+     *
+     * @throws JwtException si el token es inválido, expiró o fue revocado
+     */
+    public AuthenticatedUser authenticate(String token) {
+        String key = hash(token);
+        AuthenticatedUser user = verifiedTokens.getIfPresent(key);
+
+        if (user == null || user.getExpiresAt().getTime() <= System.currentTimeMillis()) {
+            user = verify(token);
+            verifiedTokens.put(key, user);
+        }
+
+        checkNotRevoked(user);
+        return user;
+    }
+
+    /**
+     * Rechaza el token si fue revocado por logout o por cambio de contraseña. Los tokens sin
+     * "uid" solo se comparan por id de token: se debe volver a llamar con el id ya resuelto.
+     *
+     * @throws JwtException si el token fue revocado
+     */
+    public void checkNotRevoked(AuthenticatedUser user) {
+        if (revocationList.isRevoked(user.getTokenId(), user.getId(), user.getIssuedAt())) {
+            throw new JwtException("JWT token has been revoked");
+        }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Descarta el token de la caché de tokens verificados de este nodo.
+     */
+    public void evict(String token) {
+        verifiedTokens.invalidate(hash(token));
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    /**
+     * Descarta de la caché los tokens cuyas sesiones se desactivaron en cualquier nodo
+     * (logout o cambio de contraseña). Al volver a verificarlos se rechazan por la sesión inactiva.
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.session-sync-interval-ms:5000}")
+    public void syncDeactivatedSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> tokens = sessionRepository.findTokensDeactivatedSince(
+                lastSessionSync.minusNanos(sessionSyncOverlapMs * 1_000_000));
+        lastSessionSync = now;
+
+        for (String token : tokens) {
+            evict(token);
+        }
+        if (!tokens.isEmpty()) {
+            log.debug("Evicted {} tokens of deactivated sessions", tokens.size());
+        }
+    }
+
+    private AuthenticatedUser verify(String token) {
+        Claims claims = extractAllClaims(token);
+
+        // Tokens sin sesión registrada (anteriores a las sesiones) se aceptan mientras no expiren
+        if (!sessionRepository.findActiveByToken(token).orElse(true)) {
+            throw new JwtException("JWT token has been revoked");
+        }
+
+        return AuthenticatedUser.builder()
+                .id(claims.get(USER_ID_CLAIM, Integer.class))
+                .email(claims.getSubject())
+                .role(claims.get(ROLE_CLAIM, String.class))
+                .tokenId(claims.getId())
+                .issuedAt(claims.getIssuedAt())
+                .expiresAt(claims.getExpiration())
+                .build();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
-
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,79 @@
+package compass.career.careercompass.service;
+
+import compass.career.careercompass.dto.CursorPageResponse;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Cursor de paginación por llave (keyset): la llave de orden del último elemento entregado
+ * ({@code id}, o {@code name} + {@code id} en el catálogo de carreras), codificada en Base64
+ * URL. La siguiente página continúa después de esa llave con el índice, así cualquier página
+ * cuesta lo mismo que la primera y no se ejecuta consulta de conteo.
+ */
+record KeysetCursor(String name, int id) {
+
+    // Antes de cualquier id (los ids son SERIAL, empiezan en 1)
+    static final KeysetCursor START = new KeysetCursor(null, 0);
+
+    /**
+     * Cursor recibido del cliente; {@link #START} si no hay.
+     */
+    static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf('\n');
+            return separator < 0
+                    ? new KeysetCursor(null, Integer.parseInt(value))
+                    : new KeysetCursor(value.substring(separator + 1), Integer.parseInt(value.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid pagination cursor");
+        }
+    }
+
+    boolean isStart() {
+        return id == 0 && name == null;
+    }
+
+    String encode() {
+        String value = name == null ? Integer.toString(id) : id + "\n" + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Página de {@code pageSize} elementos desde el inicio del índice; Spring Data lee uno
+     * extra para saber si hay más.
+     */
+    static Pageable firstPage(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be greater than 0");
+        }
+        return PageRequest.of(0, pageSize);
+    }
+
+    /**
+     * Respuesta con los elementos mapeados y el cursor del último, si hay más.
+     */
+    static <E, R> CursorPageResponse<R> toResponse(Slice<E> slice, Function<E, R> mapper,
+                                                   Function<E, KeysetCursor> key) {
+        List<E> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? key.apply(content.get(content.size() - 1)).encode()
+                : null;
+
+        return CursorPageResponse.<R>builder()
+                .items(content.stream().map(mapper).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasMore(nextCursor != null)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package compass.career.careercompass.service;
+
+import compass.career.careercompass.model.CognitiveOutcome;
+import compass.career.careercompass.model.EvaluationOutcome;
+import compass.career.careercompass.model.PersonalityOutcome;
+import compass.career.careercompass.model.VocationalOutcome;
+import compass.career.careercompass.repository.CompletedEvaluationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Resultados tipados de la evaluación más reciente de cada test del usuario, leídos en una
+ * sola consulta para las recomendaciones de carreras y especializaciones.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LatestTestResults {
+
+    private static final String PERSONALITY = "personality";
+    private static final String VOCATIONAL = "vocational_interests";
+    private static final String COGNITIVE = "cognitive_skills";
+    private static final List<String> TEST_TYPES = List.of(PERSONALITY, VOCATIONAL, COGNITIVE);
+
+    private final CompletedEvaluationRepository completedEvaluationRepository;
+    private final EvaluationOutcomeCodec codec;
+
+    public Outcomes load(Integer userId) {
+        PersonalityOutcome personality = null;
+        VocationalOutcome vocational = null;
+        CognitiveOutcome cognitive = null;
+
+        for (CompletedEvaluationRepository.LatestResult latest :
+                completedEvaluationRepository.findLatestResultsByUserId(userId, TEST_TYPES)) {
+            if (latest.getResultJson() == null && latest.getResultBinary() == null) {
+                log.warn("No result found for evaluation {}", latest.getEvaluationId());
+                continue;
+            }
+
+            switch (latest.getTestType()) {
+                case PERSONALITY -> personality = decode(latest, PersonalityOutcome.class);
+                case VOCATIONAL -> vocational = decode(latest, VocationalOutcome.class);
+                case COGNITIVE -> cognitive = decode(latest, CognitiveOutcome.class);
+                default -> {
+                }
+            }
+        }
+        return new Outcomes(personality, vocational, cognitive);
+    }
+
+    private <T extends EvaluationOutcome> T decode(CompletedEvaluationRepository.LatestResult latest, Class<T> type) {
+        return codec.decode(latest.getResultBinary(), latest.getResultJson(), type);
+    }
+
+    /**
+     * Último resultado de cada test; null si el usuario no lo ha completado.
+     */
+    public record Outcomes(PersonalityOutcome personality,
+                           VocationalOutcome vocational,
+                           CognitiveOutcome cognitive) {
+
+        public boolean isEmpty() {
+            return personality == null && vocational == null && cognitive == null;
+        }
+    }
+}
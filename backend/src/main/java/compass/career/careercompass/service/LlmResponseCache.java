@@ -0,0 +1,225 @@
+package compass.career.careercompass.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import compass.career.careercompass.model.CognitiveOutcome;
+import compass.career.careercompass.model.PersonalityOutcome;
+import compass.career.careercompass.model.VocationalOutcome;
+import compass.career.careercompass.repository.LlmResponseCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static compass.career.careercompass.service.CareerScoringEngine.normalize;
+
+/**
+ * Caché semántica de respuestas de Groq para recomendaciones de carreras. La clave es una
+ * huella del perfil cuantizado (las N áreas vocacionales con su porcentaje redondeado, el
+ * nivel de cada área cognitiva y las dimensiones de personalidad por rangos) junto con la
+ * versión del catálogo de carreras, así perfiles casi iguales reutilizan la misma respuesta.
+ *
+ * <p>Hay un nivel en memoria delante de la tabla {@code llm_response_cache}. Al cambiar el
+ * catálogo cambia la huella, y las filas de versiones anteriores se borran periódicamente.
+ */
+@Component
+@Slf4j
+public class LlmResponseCache {
+
+    private static final TypeReference<List<GroqService.CareerRecommendation>> RECOMMENDATIONS =
+            new TypeReference<>() {};
+
+    private final LlmResponseCacheRepository repository;
+    private final CatalogFeatureIndex featureIndex;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate writeTransaction;
+    private final Cache<String, List<GroqService.CareerRecommendation>> memory;
+    private final int percentageStep;
+    private final int topAreas;
+    private final long ttlHours;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final Counter memoryHits;
+    private final Counter databaseHits;
+    private final Counter misses;
+
+    public LlmResponseCache(LlmResponseCacheRepository repository,
+                            CatalogFeatureIndex featureIndex,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${groq.response-cache.max-entries:5000}") long maxEntries,
+                            @Value("${groq.response-cache.percentage-step:10}") int percentageStep,
+                            @Value("${groq.response-cache.top-areas:3}") int topAreas,
+                            @Value("${groq.response-cache.ttl-hours:168}") long ttlHours) {
+        this.repository = repository;
+        this.featureIndex = featureIndex;
+        this.objectMapper = objectMapper;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.percentageStep = percentageStep;
+        this.topAreas = topAreas;
+        this.ttlHours = ttlHours;
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofHours(ttlHours))
+                .build();
+
+        this.memoryHits = meterRegistry.counter("groq.response-cache.requests", "result", "hit", "tier", "memory");
+        this.databaseHits = meterRegistry.counter("groq.response-cache.requests", "result", "hit", "tier", "database");
+        this.misses = meterRegistry.counter("groq.response-cache.requests", "result", "miss", "tier", "none");
+        Gauge.builder("groq.response-cache.hit.ratio", this,
+                        c -> c.requests.get() == 0 ? 0.0 : (double) c.hits.get() / c.requests.get())
+                .description("Proporción de recomendaciones de carreras resueltas sin llamar a Groq")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Huella del perfil cuantizado y del catálogo de carreras vigente.
+     */
+    public String fingerprint(PersonalityOutcome personalityResults,
+                              VocationalOutcome vocationalResults,
+                              CognitiveOutcome cognitiveResults) {
+        StringBuilder canonical = new StringBuilder("catalog=").append(featureIndex.careerCatalogVersion());
+
+        if (vocationalResults != null && vocationalResults.topAreas() != null) {
+            List<VocationalOutcome.AreaPercentage> sorted = new ArrayList<>(vocationalResults.topAreas());
+            sorted.sort(Comparator.comparing(VocationalOutcome.AreaPercentage::percentage, Comparator.reverseOrder())
+                    .thenComparing(a -> normalize(a.area())));
+
+            canonical.append(";V:");
+            for (int i = 0; i < Math.min(topAreas, sorted.size()); i++) {
+                VocationalOutcome.AreaPercentage area = sorted.get(i);
+                canonical.append(normalize(area.area())).append('=')
+                        .append(quantize(area.percentage().doubleValue())).append(',');
+            }
+        }
+
+        if (cognitiveResults != null && cognitiveResults.cognitiveAreas() != null) {
+            Map<String, String> levels = new TreeMap<>();
+            cognitiveResults.cognitiveAreas().forEach((area, data) ->
+                    levels.put(normalize(area), data.level() != null
+                            ? normalize(data.level())
+                            : String.valueOf(quantize(data.score().doubleValue()))));
+            canonical.append(";G:");
+            levels.forEach((area, level) -> canonical.append(area).append('=').append(level).append(','));
+        }
+
+        if (personalityResults != null && personalityResults.dimensions() != null) {
+            Map<String, Integer> buckets = new TreeMap<>();
+            personalityResults.dimensions().forEach((dimension, score) ->
+                    buckets.put(normalize(dimension), quantize(score)));
+            canonical.append(";P:");
+            buckets.forEach((dimension, bucket) -> canonical.append(dimension).append('=').append(bucket).append(','));
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Respuesta guardada para la huella, o null si no hay.
+     */
+    public List<GroqService.CareerRecommendation> get(String fingerprint) {
+        requests.incrementAndGet();
+
+        List<GroqService.CareerRecommendation> cached = memory.getIfPresent(fingerprint);
+        if (cached != null) {
+            hits.incrementAndGet();
+            memoryHits.increment();
+            return cached;
+        }
+
+        cached = repository.findById(fingerprint)
+                .filter(entry -> entry.getCreatedAt().isAfter(LocalDateTime.now().minusHours(ttlHours)))
+                .map(entry -> read(entry.getResponseJson()))
+                .orElse(null);
+        if (cached != null) {
+            hits.incrementAndGet();
+            databaseHits.increment();
+            memory.put(fingerprint, cached);
+            return cached;
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Guarda la respuesta de Groq. Dentro de una transacción el nivel en memoria se
+     * actualiza después del commit.
+     */
+    public void put(String fingerprint, List<GroqService.CareerRecommendation> recommendations) {
+        List<GroqService.CareerRecommendation> copy = List.copyOf(recommendations);
+        try {
+            repository.upsert(fingerprint, featureIndex.careerCatalogVersion(),
+                    objectMapper.writeValueAsString(copy), LocalDateTime.now());
+        } catch (Exception e) {
+            throw new IllegalStateException("Error serializing Groq response for cache", e);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    memory.put(fingerprint, copy);
+                }
+            });
+        } else {
+            memory.put(fingerprint, copy);
+        }
+    }
+
+    /**
+     * Borra las respuestas vencidas y las de versiones del catálogo anteriores a la vigente.
+     * Las versiones más nuevas que la de este nodo (aún sin refrescar) se conservan.
+     */
+    @Scheduled(fixedDelayString = "${groq.response-cache.purge-interval-ms:3600000}")
+    public void purgeStale() {
+        String catalogVersion = featureIndex.careerCatalogVersion();
+        Integer deleted = writeTransaction.execute(status ->
+                repository.deleteStale(catalogVersion, LocalDateTime.now().minusHours(ttlHours)));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} stale Groq responses (catalog version {})", deleted, catalogVersion);
+        }
+    }
+
+    private int quantize(double percentage) {
+        return (int) Math.round(percentage / percentageStep) * percentageStep;
+    }
+
+    private List<GroqService.CareerRecommendation> read(String json) {
+        try {
+            return List.copyOf(objectMapper.readValue(json, RECOMMENDATIONS));
+        } catch (Exception e) {
+            log.warn("Discarding unreadable cached Groq response: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -2,8 +2,10 @@ package compass.career.careercompass.service;
 
 import compass.career.careercompass.dto.CompleteProfileResponse;
 import compass.career.careercompass.mapper.ProfileMapper;
-import compass.career.careercompass.model.User;
+import compass.career.careercompass.repository.AcademicInformationRepository;
+import compass.career.careercompass.repository.SkillRepository;
 import compass.career.careercompass.repository.UserRepository;
+import compass.career.careercompass.repository.WorkExperienceRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -14,13 +16,26 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProfileServiceImpl implements ProfileService {
 
     private final UserRepository userRepository;
+    private final AcademicInformationRepository academicInformationRepository;
+    private final WorkExperienceRepository workExperienceRepository;
+    private final SkillRepository skillRepository;
 
+    /**
+     * Arma el perfil con cuatro consultas de proyección (usuario con rol, información
+     * académica, experiencia laboral y habilidades), sin importar cuántos registros tenga
+     * el usuario. No se cargan entidades, así no se disparan colecciones LAZY ni
+     * asociaciones EAGER.
+     */
     @Override
     @Transactional(readOnly = true)
     public CompleteProfileResponse getCompleteProfile(Integer userId) {
-        User user = userRepository.findById(userId)
+        UserRepository.ProfileView user = userRepository.findProfileById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
 
-        return ProfileMapper.toCompleteProfileResponse(user);
+        return ProfileMapper.toCompleteProfileResponse(
+                user,
+                academicInformationRepository.findViewsByUserIdOrderById(userId),
+                workExperienceRepository.findViewsByUserIdOrderById(userId),
+                skillRepository.findViewsByUserIdOrderById(userId));
     }
 }
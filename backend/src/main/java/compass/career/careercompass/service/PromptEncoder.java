@@ -0,0 +1,193 @@
+package compass.career.careercompass.service;
+
+import compass.career.careercompass.model.CognitiveOutcome;
+import compass.career.careercompass.model.PersonalityOutcome;
+import compass.career.careercompass.model.VocationalOutcome;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Codificación compacta de los prompts para Groq. El perfil se resume en líneas de tamaño
+ * fijo (las N áreas con mayor puntaje, valores enteros) y cada entrada del catálogo se
+ * escribe en una sola línea con la descripción recortada. Las líneas del catálogo se guardan
+ * por versión del {@link CatalogFeatureIndex}, así solo se recalculan cuando cambia el catálogo.
+ *
+ * <p>En el prompt las entradas se identifican por su posición (1..n);
+ * {@link #resolve(List, Number)} traduce esa posición a la entrada original.
+ */
+@Component
+public class PromptEncoder {
+
+    private static final List<String> PERSONALITY_DIMENSIONS =
+            List.of("openness", "conscientiousness", "extraversion", "agreeableness", "neuroticism");
+
+    private final CatalogFeatureIndex featureIndex;
+    private final int descriptionMaxChars;
+    private final int topAreas;
+    private final int topSkills;
+
+    private volatile CatalogLines catalogLines = new CatalogLines(-1);
+
+    public PromptEncoder(CatalogFeatureIndex featureIndex,
+                         @Value("${groq.prompt.description-max-chars:160}") int descriptionMaxChars,
+                         @Value("${groq.prompt.top-areas:5}") int topAreas,
+                         @Value("${groq.prompt.top-skills:8}") int topSkills) {
+        this.featureIndex = featureIndex;
+        this.descriptionMaxChars = descriptionMaxChars;
+        this.topAreas = topAreas;
+        this.topSkills = topSkills;
+    }
+
+    /**
+     * Líneas del perfil: {@code P:} personalidad (O C E A N), {@code V:} intereses
+     * vocacionales y {@code G:} habilidades cognitivas, todo en porcentaje entero.
+     */
+    public String profile(PersonalityOutcome personalityResults,
+                          VocationalOutcome vocationalResults,
+                          CognitiveOutcome cognitiveResults) {
+        StringBuilder lines = new StringBuilder();
+
+        if (personalityResults != null && personalityResults.dimensions() != null) {
+            lines.append("P:");
+            for (String dimension : PERSONALITY_DIMENSIONS) {
+                Double score = personalityResults.dimensions().get(dimension);
+                lines.append(' ').append(Character.toUpperCase(dimension.charAt(0))).append('=')
+                        .append(score != null ? Long.toString(Math.round(score)) : "-");
+            }
+            lines.append('\n');
+        }
+
+        if (vocationalResults != null && vocationalResults.topAreas() != null) {
+            List<Map.Entry<String, Double>> scores = new ArrayList<>();
+            for (VocationalOutcome.AreaPercentage area : vocationalResults.topAreas()) {
+                scores.add(Map.entry(area.area(), area.percentage().doubleValue()));
+            }
+            appendTop(lines, "V:", scores, topAreas);
+        }
+
+        if (cognitiveResults != null && cognitiveResults.cognitiveAreas() != null) {
+            List<Map.Entry<String, Double>> scores = new ArrayList<>();
+            cognitiveResults.cognitiveAreas().forEach((area, data) ->
+                    scores.add(Map.entry(area, data.score().doubleValue())));
+            appendTop(lines, "G:", scores, topAreas);
+        }
+
+        return lines.toString();
+    }
+
+    /**
+     * Línea {@code S:} con las habilidades de mayor nivel (1-5).
+     */
+    public String skills(Map<String, Integer> skills) {
+        if (skills == null || skills.isEmpty()) {
+            return "";
+        }
+        List<Map.Entry<String, Double>> levels = new ArrayList<>();
+        skills.forEach((skill, level) -> levels.add(Map.entry(skill, level != null ? level.doubleValue() : 0)));
+
+        StringBuilder line = new StringBuilder();
+        appendTop(line, "S:", levels, topSkills);
+        return line.toString();
+    }
+
+    /**
+     * Línea de carrera: {@code nombre|semestres|salario|descripción}.
+     */
+    public String careerLine(GroqService.CareerInfo career) {
+        return cached(currentLines().careers, career.getId(), () -> String.join("|",
+                clean(career.getName()),
+                career.getDurationSemesters() != null ? career.getDurationSemesters().toString() : "-",
+                career.getAverageSalary() != null ? Long.toString(career.getAverageSalary().longValue()) : "-",
+                truncate(career.getDescription())));
+    }
+
+    /**
+     * Línea de especialización: {@code nombre|carrera|descripción|campos|proyección}.
+     */
+    public String specializationLine(Integer id, String name, String careerName, String description,
+                                     String applicationFields, String jobProjection) {
+        return cached(currentLines().specializations, id, () -> String.join("|",
+                clean(name),
+                clean(careerName),
+                truncate(description),
+                truncate(applicationFields),
+                truncate(jobProjection)));
+    }
+
+    /**
+     * Entrada en la posición {@code ordinal} (1..n) del prompt, o null si no existe.
+     */
+    public <T> T resolve(List<T> entries, Number ordinal) {
+        if (ordinal == null) {
+            return null;
+        }
+        int index = ordinal.intValue() - 1;
+        return index >= 0 && index < entries.size() ? entries.get(index) : null;
+    }
+
+    private CatalogLines currentLines() {
+        long version = featureIndex.version();
+        CatalogLines lines = catalogLines;
+        if (lines.version != version) {
+            lines = new CatalogLines(version);
+            catalogLines = lines;
+        }
+        return lines;
+    }
+
+    private static String cached(ConcurrentMap<Integer, String> lines, Integer id, Supplier<String> line) {
+        if (id == null) {
+            return line.get();
+        }
+        return lines.computeIfAbsent(id, key -> line.get());
+    }
+
+    private static void appendTop(StringBuilder lines, String prefix, List<Map.Entry<String, Double>> scores, int limit) {
+        scores.sort(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        lines.append(prefix);
+        for (int i = 0; i < Math.min(limit, scores.size()); i++) {
+            Map.Entry<String, Double> score = scores.get(i);
+            lines.append(' ').append(clean(score.getKey()).replace(' ', '_'))
+                    .append('=').append(Math.round(score.getValue()));
+        }
+        lines.append('\n');
+    }
+
+    // Recorta en el último espacio antes del límite para no partir palabras
+    private String truncate(String text) {
+        String value = clean(text);
+        if (value.length() <= descriptionMaxChars) {
+            return value;
+        }
+        int cut = value.lastIndexOf(' ', descriptionMaxChars);
+        return value.substring(0, cut > descriptionMaxChars / 2 ? cut : descriptionMaxChars) + "…";
+    }
+
+    // Una sola línea y sin el separador de campos
+    private static String clean(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace('|', '/').replaceAll("\\s+", " ").trim();
+    }
+
+    private static final class CatalogLines {
+        private final long version;
+        private final ConcurrentMap<Integer, String> careers = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Integer, String> specializations = new ConcurrentHashMap<>();
+
+        private CatalogLines(long version) {
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package compass.career.careercompass.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import compass.career.careercompass.dto.QuestionResponse;
+import compass.career.careercompass.dto.SerializedTestResponse;
+import compass.career.careercompass.dto.TestResponse;
+import compass.career.careercompass.mapper.TestMapper;
+import compass.career.careercompass.model.Test;
+import compass.career.careercompass.repository.QuestionRepository;
+import compass.career.careercompass.repository.TestRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Banco de preguntas en memoria por tipo de test. Cada banco contiene las preguntas activas
+ * con sus opciones ya mapeadas a DTO inmutables, de modo que el muestreo aleatorio de los
+ * endpoints públicos no consulta la base de datos. Se recarga cuando se crea o actualiza un test,
+ * y periódicamente para recoger los cambios hechos desde otro nodo.
+ * Además guarda cada pregunta ya serializada a JSON para armar la respuesta concatenando bytes.
+ */
+@Component
+@Slf4j
+public class QuestionBank {
+
+    private final TestRepository testRepository;
+    private final QuestionRepository questionRepository;
+    private final TransactionTemplate readTransaction;
+    private final ObjectMapper objectMapper;
+
+    // Se reemplaza completo al invalidar, así una carga en curso no repuebla datos viejos
+    private volatile Map<String, Bank> banks = new ConcurrentHashMap<>();
+
+    public QuestionBank(TestRepository testRepository,
+                        QuestionRepository questionRepository,
+                        PlatformTransactionManager transactionManager,
+                        ObjectMapper objectMapper) {
+        this.testRepository = testRepository;
+        this.questionRepository = questionRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Devuelve el test activo del tipo indicado con una muestra aleatoria de
+     * {@code questionsToShow} preguntas.
+     */
+    public TestResponse sample(String testTypeName, String notFoundMessage) {
+        Bank bank = bank(testTypeName, notFoundMessage);
+
+        return TestResponse.builder()
+                .id(bank.id)
+                .name(bank.name)
+                .description(bank.description)
+                .testType(bank.testType)
+                .questionsToShow(bank.questionsToShow)
+                .questions(bank.sample(bank.questionsToShow))
+                .build();
+    }
+
+    /**
+     * Igual que {@link #sample}, pero devuelve el JSON ya armado a partir de los fragmentos
+     * serializados de cada pregunta, sin construir el grafo de DTO ni volver a serializarlo.
+     */
+    public SerializedTestResponse sampleSerialized(String testTypeName, String notFoundMessage) {
+        Bank bank = bank(testTypeName, notFoundMessage);
+
+        return SerializedTestResponse.builder()
+                .json(bank.sampleJson(bank.questionsToShow))
+                .build();
+    }
+
+    /**
+     * Descarta los bancos cargados. Dentro de una transacción se aplica después del commit.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    banks = new ConcurrentHashMap<>();
+                }
+            });
+        } else {
+            banks = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Descarta los bancos cargados para que la siguiente petición los lea de nuevo.
+     */
+    @Scheduled(fixedDelayString = "${evaluations.question-bank.refresh-interval-ms:300000}",
+            initialDelayString = "${evaluations.question-bank.refresh-interval-ms:300000}")
+    public void refresh() {
+        banks = new ConcurrentHashMap<>();
+    }
+
+    Bank bank(String testTypeName, String notFoundMessage) {
+        Map<String, Bank> current = banks;
+        Bank bank = current.get(testTypeName);
+        if (bank == null) {
+            bank = load(testTypeName, notFoundMessage);
+            Bank previous = current.putIfAbsent(testTypeName, bank);
+            if (previous != null) {
+                bank = previous;
+            }
+        }
+        return bank;
+    }
+
+    private Bank load(String testTypeName, String notFoundMessage) {
+        return readTransaction.execute(status -> {
+            Test test = testRepository.findByTestTypeNameAndActiveTrue(testTypeName)
+                    .orElseThrow(() -> new EntityNotFoundException(notFoundMessage));
+
+            QuestionResponse[] questions = questionRepository.findActiveWithOptionsByTestId(test.getId()).stream()
+                    .map(TestMapper::toQuestionResponse)
+                    .toArray(QuestionResponse[]::new);
+
+            log.info("Loaded question bank for '{}' test {} with {} questions", testTypeName, test.getId(), questions.length);
+            return new Bank(test, questions);
+        });
+    }
+
+    final class Bank {
+        private final Integer id;
+        private final String name;
+        private final String description;
+        private final String testType;
+        private final Integer questionsToShow;
+        private final QuestionResponse[] questions;
+
+        // JSON del test hasta la apertura del arreglo de preguntas, y de cada pregunta
+        private final byte[] header;
+        private final byte[][] questionJson;
+
+        private Bank(Test test, QuestionResponse[] questions) {
+            this.id = test.getId();
+            this.name = test.getName();
+            this.description = test.getDescription();
+            this.testType = test.getTestType().getName();
+            this.questionsToShow = test.getQuestionsToShow();
+            this.questions = questions;
+
+            try {
+                byte[] empty = objectMapper.writeValueAsBytes(TestResponse.builder()
+                        .id(id)
+                        .name(name)
+                        .description(description)
+                        .testType(testType)
+                        .questionsToShow(questionsToShow)
+                        .questions(List.of())
+                        .build());
+                String emptyJson = new String(empty, StandardCharsets.UTF_8);
+                if (!emptyJson.endsWith("[]}")) {
+                    throw new IllegalStateException("Unexpected test payload layout: " + emptyJson);
+                }
+                this.header = Arrays.copyOf(empty, empty.length - 2);
+
+                this.questionJson = new byte[questions.length][];
+                for (int i = 0; i < questions.length; i++) {
+                    questionJson[i] = objectMapper.writeValueAsBytes(questions[i]);
+                }
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Error serializing question bank", e);
+            }
+        }
+
+        List<QuestionResponse> sample(int k) {
+            int[] picked = sampleIndexes(k);
+            List<QuestionResponse> result = new ArrayList<>(picked.length);
+            for (int index : picked) {
+                result.add(questions[index]);
+            }
+            return result;
+        }
+
+        byte[] sampleJson(int k) {
+            int[] picked = sampleIndexes(k);
+
+            int length = header.length + 2 + Math.max(picked.length - 1, 0);
+            for (int index : picked) {
+                length += questionJson[index].length;
+            }
+
+            byte[] json = new byte[length];
+            System.arraycopy(header, 0, json, 0, header.length);
+            int position = header.length;
+            for (int i = 0; i < picked.length; i++) {
+                if (i > 0) {
+                    json[position++] = ',';
+                }
+                byte[] fragment = questionJson[picked[i]];
+                System.arraycopy(fragment, 0, json, position, fragment.length);
+                position += fragment.length;
+            }
+            json[position++] = ']';
+            json[position] = '}';
+
+            return json;
+        }
+
+        /**
+         * Fisher–Yates parcial en O(k): las posiciones intercambiadas se guardan en un mapa
+         * en lugar de copiar el arreglo completo.
+         */
+        private int[] sampleIndexes(int k) {
+            int n = questions.length;
+            int size = Math.min(Math.max(k, 0), n);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Map<Integer, Integer> swaps = new HashMap<>(size * 2);
+            int[] result = new int[size];
+
+            for (int i = 0; i < size; i++) {
+                int j = i + random.nextInt(n - i);
+                result[i] = swaps.getOrDefault(j, j);
+                swaps.put(j, swaps.getOrDefault(i, i));
+            }
+
+            return result;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package compass.career.careercompass.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import compass.career.careercompass.dto.CareerRecommendationResponse;
+import compass.career.careercompass.dto.SpecializationRecommendationResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Caché compartida de recomendaciones por usuario, acotada por peso (tamaño aproximado en bytes),
+ * con expiración por tiempo de vida e inactividad. Publica métricas de aciertos, fallos,
+ * desalojos y tamaño bajo el nombre "recommendations".
+ */
+@Component
+@Slf4j
+public class RecommendationCache {
+
+    private static final String CAREER = "career";
+    private static final String SPECIALIZATION = "specialization";
+
+    private final Cache<Key, List<?>> cache;
+
+    public RecommendationCache(
+            @Value("${recommendations.cache.max-weight-bytes:33554432}") long maxWeightBytes,
+            @Value("${recommendations.cache.ttl-minutes:60}") long ttlMinutes,
+            @Value("${recommendations.cache.idle-minutes:20}") long idleMinutes,
+            MeterRegistry meterRegistry) {
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Key key, List<?> value) -> estimateWeight(value))
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "recommendations");
+        Gauge.builder("recommendations.cache.weight", cache,
+                        c -> c.policy().eviction().map(e -> (double) e.weightedSize().orElse(0L)).orElse(0.0))
+                .description("Peso aproximado (bytes) de las recomendaciones en caché")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<CareerRecommendationResponse> getCareers(Integer userId) {
+        return (List<CareerRecommendationResponse>) cache.getIfPresent(new Key(CAREER, userId));
+    }
+
+    public void putCareers(Integer userId, List<CareerRecommendationResponse> recommendations) {
+        cache.put(new Key(CAREER, userId), List.copyOf(recommendations));
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<SpecializationRecommendationResponse> getSpecializations(Integer userId) {
+        return (List<SpecializationRecommendationResponse>) cache.getIfPresent(new Key(SPECIALIZATION, userId));
+    }
+
+    public void putSpecializations(Integer userId, List<SpecializationRecommendationResponse> recommendations) {
+        cache.put(new Key(SPECIALIZATION, userId), List.copyOf(recommendations));
+    }
+
+    /**
+     * Invalida las recomendaciones del usuario. Si hay una transacción activa, la invalidación
+     * se hace después del commit para que una lectura concurrente no vuelva a cachear datos viejos.
+     */
+    public void invalidateUser(Integer userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictUser(userId);
+                }
+            });
+        } else {
+            evictUser(userId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${recommendations.cache.sweep-interval-ms:60000}")
+    public void sweep() {
+        cache.cleanUp();
+    }
+
+    private void evictUser(Integer userId) {
+        cache.invalidate(new Key(CAREER, userId));
+        cache.invalidate(new Key(SPECIALIZATION, userId));
+        log.debug("Invalidated cached recommendations for user {}", userId);
+    }
+
+    // Estimación aproximada: cabecera por elemento más 2 bytes por carácter de los textos
+    private static int estimateWeight(List<?> recommendations) {
+        int weight = 64;
+        for (Object item : recommendations) {
+            weight += 128;
+            if (item instanceof CareerRecommendationResponse career) {
+                weight += 2 * (length(career.getName()) + length(career.getDescription()));
+            } else if (item instanceof SpecializationRecommendationResponse specialization) {
+                weight += 2 * (length(specialization.getName()) + length(specialization.getDescription())
+                        + length(specialization.getCareerName()));
+            }
+        }
+        return weight;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private record Key(String type, Integer userId) {
+    }
+}
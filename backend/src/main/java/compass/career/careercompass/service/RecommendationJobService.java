@@ -0,0 +1,15 @@
+package compass.career.careercompass.service;
+
+import compass.career.careercompass.dto.RecommendationJobResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface RecommendationJobService {
+    String CAREER = "career";
+    String SPECIALIZATION = "specialization";
+
+    RecommendationJobResponse submitCareerJob(Integer userId);
+    RecommendationJobResponse submitSpecializationJob(Integer userId);
+    RecommendationJobResponse getJob(Integer userId, String type, String jobId);
+    SseEmitter subscribe(Integer userId, String type, String jobId);
+    SseEmitter streamCareerRecommendations(Integer userId);
+}
@@ -0,0 +1,221 @@
+package compass.career.careercompass.service;
+
+import compass.career.careercompass.dto.CareerRecommendationResponse;
+import compass.career.careercompass.dto.RecommendationJobResponse;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class RecommendationJobServiceImpl implements RecommendationJobService {
+
+    private final CareerService careerService;
+    private final SpecializationService specializationService;
+    private final TaskExecutor executor;
+    private final Duration retention;
+    private final long sseTimeoutMs;
+
+    // Trabajos en curso y terminados recientemente (se purgan tras el período de retención)
+    private final Map<String, RecommendationJob> jobs = new ConcurrentHashMap<>();
+
+    public RecommendationJobServiceImpl(
+            CareerService careerService,
+            SpecializationService specializationService,
+            @Qualifier("recommendationJobExecutor") TaskExecutor executor,
+            @Value("${recommendations.jobs.retention-minutes:15}") long retentionMinutes,
+            @Value("${recommendations.jobs.sse-timeout-ms:120000}") long sseTimeoutMs) {
+        this.careerService = careerService;
+        this.specializationService = specializationService;
+        this.executor = executor;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.sseTimeoutMs = sseTimeoutMs;
+    }
+
+    @Override
+    public RecommendationJobResponse submitCareerJob(Integer userId) {
+        return submit(userId, CAREER, () -> careerService.getRecommendedCareers(userId));
+    }
+
+    @Override
+    public RecommendationJobResponse submitSpecializationJob(Integer userId) {
+        return submit(userId, SPECIALIZATION, () -> specializationService.getRecommendedSpecializations(userId));
+    }
+
+    @Override
+    public RecommendationJobResponse getJob(Integer userId, String type, String jobId) {
+        return toResponse(findJob(userId, type, jobId));
+    }
+
+    @Override
+    public SseEmitter subscribe(Integer userId, String type, String jobId) {
+        RecommendationJob job = findJob(userId, type, jobId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+
+        // Si el trabajo ya terminó, el evento se envía de inmediato
+        job.future.whenComplete((result, error) -> {
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(job.id)
+                        .name(error == null ? "completed" : "failed")
+                        .data(toResponse(job)));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Could not deliver recommendation job {} event: {}", job.id, e.getMessage());
+                emitter.completeWithError(e);
+            }
+        });
+
+        return emitter;
+    }
+
+    @Override
+    public SseEmitter streamCareerRecommendations(Integer userId) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+
+        // Si el cliente se desconecta la generación continúa (el resultado se guarda), sin más envíos
+        AtomicBoolean open = new AtomicBoolean(true);
+        emitter.onCompletion(() -> open.set(false));
+        emitter.onTimeout(() -> open.set(false));
+        emitter.onError(e -> open.set(false));
+
+        executor.execute(() -> {
+            try {
+                List<CareerRecommendationResponse> result = careerService.streamRecommendedCareers(userId,
+                        recommendation -> send(emitter, open, "recommendation", recommendation));
+                send(emitter, open, "completed", result);
+            } catch (Exception e) {
+                log.error("Streaming career recommendations failed for user {}", userId, e);
+                send(emitter, open, "failed", Map.of("error", String.valueOf(e.getMessage())));
+            }
+            if (open.get()) {
+                emitter.complete();
+            }
+        });
+
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${recommendations.jobs.cleanup-interval-ms:60000}")
+    public void purgeFinishedJobs() {
+        LocalDateTime limit = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(limit));
+    }
+
+    private void send(SseEmitter emitter, AtomicBoolean open, String name, Object data) {
+        if (!open.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Could not deliver '{}' recommendation event: {}", name, e.getMessage());
+            open.set(false);
+        }
+    }
+
+    private synchronized RecommendationJobResponse submit(Integer userId, String type, Supplier<List<?>> task) {
+        // Reutilizar un trabajo en curso del mismo usuario y tipo
+        RecommendationJob active = jobs.values().stream()
+                .filter(j -> j.userId.equals(userId) && j.type.equals(type) && !j.future.isDone())
+                .findFirst()
+                .orElse(null);
+
+        if (active != null) {
+            log.info("Reusing active {} recommendation job {} for user {}", type, active.id, userId);
+            return toResponse(active);
+        }
+
+        RecommendationJob job = new RecommendationJob(userId, type);
+        jobs.put(job.id, job);
+
+        try {
+            executor.execute(() -> run(job, task));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.id);
+            throw e;
+        }
+
+        log.info("Queued {} recommendation job {} for user {}", type, job.id, userId);
+        return toResponse(job);
+    }
+
+    private void run(RecommendationJob job, Supplier<List<?>> task) {
+        job.status = Status.RUNNING;
+        try {
+            List<?> result = task.get();
+            job.result = result;
+            job.status = Status.COMPLETED;
+            job.finishedAt = LocalDateTime.now();
+            job.future.complete(result);
+        } catch (Throwable e) {
+            // También con Error: un trabajo sin terminar se reutilizaría para siempre y nunca se purgaría
+            log.error("Recommendation job {} failed for user {}", job.id, job.userId, e);
+            job.error = e.getMessage();
+            job.status = Status.FAILED;
+            job.finishedAt = LocalDateTime.now();
+            job.future.completeExceptionally(e);
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    private RecommendationJob findJob(Integer userId, String type, String jobId) {
+        RecommendationJob job = jobs.get(jobId);
+        if (job == null || !job.userId.equals(userId) || !job.type.equals(type)) {
+            throw new EntityNotFoundException("Recommendation job not found");
+        }
+        return job;
+    }
+
+    private RecommendationJobResponse toResponse(RecommendationJob job) {
+        return RecommendationJobResponse.builder()
+                .jobId(job.id)
+                .type(job.type)
+                .status(job.status.name())
+                .createdAt(job.createdAt)
+                .finishedAt(job.finishedAt)
+                .result(job.result)
+                .error(job.error)
+                .build();
+    }
+
+    private enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    private static class RecommendationJob {
+        private final String id = UUID.randomUUID().toString();
+        private final Integer userId;
+        private final String type;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final CompletableFuture<List<?>> future = new CompletableFuture<>();
+        private volatile Status status = Status.PENDING;
+        private volatile LocalDateTime finishedAt;
+        private volatile List<?> result;
+        private volatile String error;
+
+        public RecommendationJob(Integer userId, String type) {
+            this.userId = userId;
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package compass.career.careercompass.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta la generación de recomendaciones en fases separadas para no retener
+ * conexiones JDBC mientras se espera la respuesta del LLM:
+ * lectura (transacción corta de solo lectura), llamada externa (sin transacción)
+ * y escritura (transacción corta).
+ */
+@Component
+@Slf4j
+public class RecommendationPhaseRunner {
+
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final MeterRegistry meterRegistry;
+
+    public RecommendationPhaseRunner(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T read(String type, Supplier<T> action) {
+        return timed(type, "read", () -> readTransaction.execute(status -> action.get()));
+    }
+
+    public <T> T external(String type, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            log.warn("External {} recommendation call running inside a transaction; a JDBC connection is being held", type);
+        }
+        return timed(type, "llm", action);
+    }
+
+    public <T> T write(String type, Supplier<T> action) {
+        return timed(type, "write", () -> writeTransaction.execute(status -> action.get()));
+    }
+
+    private <T> T timed(String type, String phase, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return action.get();
+        } finally {
+            sample.stop(Timer.builder("recommendations.phase")
+                    .description("Duración de cada fase de recomendación; read y write retienen una conexión JDBC, llm no")
+                    .tag("type", type)
+                    .tag("phase", phase)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package compass.career.careercompass.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa las generaciones concurrentes de recomendaciones de un mismo usuario:
+ * la primera llamada genera y las demás esperan el mismo resultado en lugar de
+ * volver a llamar a Groq y escribir de nuevo en la base de datos.
+ */
+@Component
+@Slf4j
+public class RecommendationSingleFlight {
+
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public RecommendationSingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String type, Integer userId, Supplier<T> generator) {
+        Key key = new Key(type, userId);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            log.info("Joining in-flight {} recommendation generation for user {}", type, userId);
+            counter(type, "coalesced").increment();
+            return (T) await(existing);
+        }
+
+        counter(type, "leader").increment();
+        try {
+            T result = generator.get();
+            future.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // También con Error: si el futuro no se completa, quienes esperan se bloquean para siempre
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(String type, String role) {
+        return Counter.builder("recommendations.singleflight.calls")
+                .description("Llamadas de generación de recomendaciones: leader genera, coalesced reutiliza una generación en curso")
+                .tag("type", type)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+
+    private record Key(String type, Integer userId) {
+    }
+}
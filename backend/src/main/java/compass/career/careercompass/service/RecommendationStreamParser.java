@@ -0,0 +1,125 @@
+package compass.career.careercompass.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Lee de forma incremental un objeto JSON que llega por fragmentos (el contenido de una
+ * respuesta en streaming) y entrega cada objeto del arreglo {@code arrayField} de primer
+ * nivel en cuanto se cierra, sin esperar el resto del documento.
+ *
+ * <p>Se ignora el texto antes de la primera llave y después del cierre del objeto raíz
+ * (p. ej. bloques de código Markdown alrededor del JSON).
+ */
+final class RecommendationStreamParser {
+
+    private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+    private final String arrayField;
+    private final Consumer<Map<String, Object>> onElement;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private boolean started;
+    private boolean done;
+    private int depth;
+    private int arrayDepth = -1;
+    private String field;
+    private TokenBuffer element;
+    private int elementDepth;
+
+    RecommendationStreamParser(ObjectMapper objectMapper, String arrayField,
+                               Consumer<Map<String, Object>> onElement) throws IOException {
+        this.objectMapper = objectMapper;
+        this.arrayField = arrayField;
+        this.onElement = onElement;
+        this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    void feed(String fragment) throws IOException {
+        if (done || fragment.isEmpty()) {
+            return;
+        }
+        if (!started) {
+            int start = fragment.indexOf('{');
+            if (start < 0) {
+                return;
+            }
+            fragment = fragment.substring(start);
+            started = true;
+        }
+
+        byte[] bytes = fragment.getBytes(StandardCharsets.UTF_8);
+        feeder.feedInput(bytes, 0, bytes.length);
+        drain();
+    }
+
+    void finish() throws IOException {
+        if (!started) {
+            throw new IOException("Streamed response did not contain a JSON object");
+        }
+        if (!done) {
+            feeder.endOfInput();
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!done && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (element != null) {
+                element.copyCurrentEvent(parser);
+                if (token.isStructStart()) {
+                    elementDepth++;
+                } else if (token.isStructEnd() && --elementDepth == 0) {
+                    onElement.accept(objectMapper.readValue(element.asParser(objectMapper), MAP));
+                    element = null;
+                }
+                continue;
+            }
+
+            switch (token) {
+                case FIELD_NAME -> field = parser.currentName();
+                case START_OBJECT -> {
+                    if (depth == arrayDepth) {
+                        element = new TokenBuffer(parser);
+                        element.copyCurrentEvent(parser);
+                        elementDepth = 1;
+                    } else {
+                        depth++;
+                    }
+                }
+                case START_ARRAY -> {
+                    depth++;
+                    if (depth == 2 && arrayField.equals(field)) {
+                        arrayDepth = depth;
+                    }
+                }
+                case END_ARRAY -> {
+                    if (depth == arrayDepth) {
+                        arrayDepth = -1;
+                    }
+                    depth--;
+                }
+                case END_OBJECT -> {
+                    if (--depth == 0) {
+                        done = true;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+    }
+}
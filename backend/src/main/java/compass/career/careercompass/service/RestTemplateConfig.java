@@ -1,14 +1,83 @@
 package compass.career.careercompass.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Map;
+
 @Configuration
 public class RestTemplateConfig {
 
+    /**
+     * Pool de conexiones compartido por las integraciones REST (Azure, Reddit). Límite total y por
+     * host, timeouts de conexión y lectura, y reciclado de conexiones inactivas o expiradas.
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager restConnectionManager(
+            @Value("${http.client.max-total:50}") int maxTotal,
+            @Value("${http.client.max-per-route:20}") int maxPerRoute,
+            @Value("#{${http.client.max-per-host:{:}}}") Map<String, Integer> maxPerHost,
+            @Value("${http.client.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${http.client.read-timeout-ms:10000}") long readTimeoutMs,
+            @Value("${http.client.connection-ttl-minutes:5}") long connectionTtlMinutes,
+            MeterRegistry meterRegistry) {
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMinutes(connectionTtlMinutes))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+
+        // Límites específicos por host (ej. http.client.max-per-host={'www.reddit.com': 10})
+        maxPerHost.forEach((host, max) ->
+                connectionManager.setMaxPerRoute(new HttpRoute(new HttpHost("https", host, 443)), max));
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "rest-template")
+                .bindTo(meterRegistry);
+
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient restHttpClient(
+            PoolingHttpClientConnectionManager restConnectionManager,
+            @Value("${http.client.connection-request-timeout-ms:2000}") long connectionRequestTimeoutMs,
+            @Value("${http.client.read-timeout-ms:10000}") long readTimeoutMs,
+            @Value("${http.client.idle-eviction-seconds:30}") long idleEvictionSeconds) {
+
+        return HttpClients.custom()
+                .setConnectionManager(restConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictionSeconds))
+                .evictExpiredConnections()
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient restHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(restHttpClient));
     }
 }
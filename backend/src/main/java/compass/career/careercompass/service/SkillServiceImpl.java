@@ -1,6 +1,7 @@
 package compass.career.careercompass.service;
 
 import compass.career.careercompass.dto.SkillRequest;
+import compass.career.careercompass.dto.CursorPageResponse;
 import compass.career.careercompass.dto.SkillResponse;
 import compass.career.careercompass.dto.UpdateSkillRequest;
 import compass.career.careercompass.mapper.SkillMapper;
@@ -12,14 +13,10 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +25,7 @@ public class SkillServiceImpl implements SkillService {
 
     private final SkillRepository repository;
     private final UserRepository userRepository;
+    private final RecommendationCache recommendationCache;
 
     @Override
     @Transactional
@@ -49,6 +47,7 @@ public class SkillServiceImpl implements SkillService {
 
         Skill entity = SkillMapper.toEntity(request, user);
         Skill saved = repository.save(entity);
+        recommendationCache.invalidateUser(userId);
 
         log.info("Skill '{}' created successfully with id {} for user {}",
                 saved.getSkillName(), saved.getId(), userId);
@@ -82,6 +81,7 @@ public class SkillServiceImpl implements SkillService {
         entity.setProficiencyLevel(request.getProficiencyLevel());
 
         Skill saved = repository.save(entity);
+        recommendationCache.invalidateUser(userId);
 
         log.info("Skill {} updated successfully for user {} - Old: '{}' (level {}), New: '{}' (level {})",
                 id, userId, oldSkillName, oldProficiencyLevel,
@@ -92,17 +92,18 @@ public class SkillServiceImpl implements SkillService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<SkillResponse> findByUserId(Integer userId, int page, int pageSize) {
-        log.debug("Finding skills for user {} with pagination - page: {}, pageSize: {}",
-                userId, page, pageSize);
+    public CursorPageResponse<SkillResponse> findByUserId(Integer userId, String cursor, int pageSize) {
+        log.debug("Finding skills for user {} after cursor {} - pageSize: {}",
+                userId, cursor, pageSize);
 
-        Pageable pageable = PageRequest.of(page, pageSize);
+        KeysetCursor after = KeysetCursor.decode(cursor);
 
-        List<SkillResponse> skills = repository.findByUserId(userId, pageable).stream()
-                .map(SkillMapper::toResponse)
-                .collect(Collectors.toList());
+        CursorPageResponse<SkillResponse> skills = KeysetCursor.toResponse(
+                repository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, after.id(), KeysetCursor.firstPage(pageSize)),
+                SkillMapper::toResponse,
+                s -> new KeysetCursor(null, s.getId()));
 
-        if (skills.isEmpty()) {
+        if (skills.getItems().isEmpty() && after.isStart()) {
             throw new IllegalArgumentException("There are no skills registered for this user.");
         }
 
@@ -1,6 +1,23 @@
 package compass.career.careercompass.service;
 
+import java.util.Map;
+
 public interface SocialMediaApiService {
-    Object getCareerInformation(String careerName);
-    Object getSpecializationInformation(String specializationName);
+    /**
+     * Información de Reddit de la carrera, con datos nuevos de cada búsqueda. Las que no
+     * obtienen respuesta usan el valor anterior en caché o datos por defecto.
+     */
+    RedditInformation getCareerInformation(String careerName);
+
+    /**
+     * Igual que {@link #getCareerInformation} para una especialización.
+     */
+    RedditInformation getSpecializationInformation(String specializationName);
+
+    /**
+     * Datos para el snapshot; {@code complete} es false si alguna búsqueda no obtuvo
+     * respuesta de Reddit.
+     */
+    record RedditInformation(Map<String, Object> data, boolean complete) {
+    }
 }
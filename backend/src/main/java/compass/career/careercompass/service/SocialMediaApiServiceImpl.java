@@ -1,6 +1,14 @@
 package compass.career.careercompass.service;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -8,105 +16,157 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class SocialMediaApiServiceImpl implements SocialMediaApiService {
 
     private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+    private final UpstreamGuard upstreamGuard;
     private static final String REDDIT_BASE_URL = "https://www.reddit.com";
 
+    /*
+     * Datos extraídos de Reddit por búsqueda. Cada carga de snapshot refresca sus búsquedas
+     * (un solo refresco por clave a la vez); si el refresco falla se conserva el valor
+     * anterior hasta max-stale y se usa en su lugar.
+     */
+    private final LoadingCache<RedditSearch, Map<String, Object>> redditCache;
+
+    public SocialMediaApiServiceImpl(RestTemplate restTemplate,
+                                     @Qualifier("redditExecutor") TaskExecutor redditExecutor,
+                                     @Value("${reddit.cache.ttl-minutes:30}") long ttlMinutes,
+                                     @Value("${reddit.cache.max-stale-hours:24}") long maxStaleHours,
+                                     @Value("${reddit.cache.max-size:1000}") long maxSize,
+                                     MeterRegistry meterRegistry,
+                                     UpstreamGuard upstreamGuard) {
+        this.restTemplate = restTemplate;
+        this.upstreamGuard = upstreamGuard;
+        this.meterRegistry = meterRegistry;
+        this.redditCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .expireAfterWrite(Duration.ofHours(maxStaleHours))
+                .executor(redditExecutor::execute)
+                .recordStats()
+                .build(this::fetchReddit);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, redditCache, "reddit");
+    }
+
     @Override
-    public Object getCareerInformation(String careerName) {
+    public RedditInformation getCareerInformation(String careerName) {
         Map<String, Object> result = new HashMap<>();
 
-        // Buscar en Reddit general
-        Object generalSearch = searchReddit(careerName + " career opportunities");
-        result.put("generalDiscussion", generalSearch);
+        // Ambas búsquedas se refrescan en paralelo: Reddit general y subreddit específico
+        RedditSearch general = new RedditSearch(careerName + " career opportunities", null);
+        RedditSearch careerAdvice = new RedditSearch(careerName, "cscareerquestions");
+        CompletableFuture<Map<String, Object>> generalRefresh = refresh(general);
+        CompletableFuture<Map<String, Object>> careerAdviceRefresh = refresh(careerAdvice);
 
-        // Buscar en subreddit específico si existe
-        Object subredditSearch = searchInSubreddit(careerName, "cscareerquestions");
-        result.put("careerAdvice", subredditSearch);
+        Answer generalSearch = await("generalDiscussion", general, generalRefresh);
+        result.put("generalDiscussion", generalSearch.data());
+
+        Answer subredditSearch = await("careerAdvice", careerAdvice, careerAdviceRefresh);
+        result.put("careerAdvice", subredditSearch.data());
 
         // Agregar resumen
-        result.put("summary", generateCareerSummary(generalSearch, subredditSearch, careerName));
+        result.put("summary", generateCareerSummary(generalSearch.data(), subredditSearch.data(), careerName));
 
-        return result;
+        return new RedditInformation(result, generalSearch.fresh() && subredditSearch.fresh());
     }
 
     @Override
-    public Object getSpecializationInformation(String specializationName) {
+    public RedditInformation getSpecializationInformation(String specializationName) {
         Map<String, Object> result = new HashMap<>();
 
-        // Buscar información sobre la especialización
-        Object generalSearch = searchReddit(specializationName + " specialization");
-        result.put("discussion", generalSearch);
+        // Información sobre la especialización y tendencias de demanda, en paralelo
+        RedditSearch discussion = new RedditSearch(specializationName + " specialization", null);
+        RedditSearch marketTrends = new RedditSearch(specializationName + " job market trends", null);
+        CompletableFuture<Map<String, Object>> discussionRefresh = refresh(discussion);
+        CompletableFuture<Map<String, Object>> marketTrendsRefresh = refresh(marketTrends);
+
+        Answer generalSearch = await("discussion", discussion, discussionRefresh);
+        result.put("discussion", generalSearch.data());
 
-        // Buscar tendencias y demanda
-        Object trendsSearch = searchReddit(specializationName + " job market trends");
-        result.put("marketTrends", trendsSearch);
+        Answer trendsSearch = await("marketTrends", marketTrends, marketTrendsRefresh);
+        result.put("marketTrends", trendsSearch.data());
 
         // Agregar resumen
-        result.put("summary", generateSpecializationSummary(generalSearch, trendsSearch, specializationName));
+        result.put("summary", generateSpecializationSummary(generalSearch.data(), trendsSearch.data(), specializationName));
 
-        return result;
+        return new RedditInformation(result, generalSearch.fresh() && trendsSearch.fresh());
     }
 
-    private Object searchReddit(String query) {
-        String url = REDDIT_BASE_URL + "/search.json?q=" +
-                query.replace(" ", "+") + "&limit=10&sort=relevance&t=year";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("User-Agent", "VocationalGuidanceApp/1.0 (Educational Purpose)");
-
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-
+    /**
+     * Vuelve a cargar la búsqueda en el pool de Reddit. Las cargas concurrentes de la misma
+     * búsqueda comparten un solo refresco.
+     */
+    private CompletableFuture<Map<String, Object>> refresh(RedditSearch search) {
         try {
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    Map.class
-            );
-
-            Map<String, Object> result = response.getBody();
-            return extractRedditData(result);
+            return redditCache.refresh(search);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
-        } catch (Exception e) {
-            System.err.println("Error calling Reddit API: " + e.getMessage());
-            e.printStackTrace();
-            return getDefaultRedditData();
+    /**
+     * Espera el refresco sin plazo (lo acotan los timeouts del cliente HTTP). Si falla se usa
+     * el valor anterior de la caché o, si no hay, datos por defecto para esa fuente.
+     */
+    private Answer await(String source, RedditSearch search, CompletableFuture<Map<String, Object>> refresh) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return new Answer(refresh.join(), true);
+        } catch (CompletionException | CancellationException e) {
+            log.warn("Error calling Reddit API for '{}': {}", search.query(), e.getMessage());
+            meterRegistry.counter("reddit.search.failures", "source", source).increment();
+            Map<String, Object> previous = redditCache.getIfPresent(search);
+            return new Answer(previous != null ? previous : getDefaultRedditData(), false);
+        } finally {
+            sample.stop(Timer.builder("reddit.search")
+                    .description("Latencia de las búsquedas en Reddit por fuente")
+                    .tag("source", source)
+                    .register(meterRegistry));
         }
     }
 
-    private Object searchInSubreddit(String query, String subreddit) {
-        String url = REDDIT_BASE_URL + "/r/" + subreddit + "/search.json?q=" +
-                query.replace(" ", "+") + "&restrict_sr=1&limit=10&sort=relevance";
+    /**
+     * Llama a Reddit y extrae los datos. Lanza excepción si la llamada falla, para que un
+     * refresco fallido no reemplace el valor que ya está en caché.
+     */
+    private Map<String, Object> fetchReddit(RedditSearch search) throws Exception {
+        String url = search.subreddit() == null
+                ? REDDIT_BASE_URL + "/search.json?q=" +
+                        search.query().replace(" ", "+") + "&limit=10&sort=relevance&t=year"
+                : REDDIT_BASE_URL + "/r/" + search.subreddit() + "/search.json?q=" +
+                        search.query().replace(" ", "+") + "&restrict_sr=1&limit=10&sort=relevance";
 
         HttpHeaders headers = new HttpHeaders();
         headers.set("User-Agent", "VocationalGuidanceApp/1.0 (Educational Purpose)");
 
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
-        try {
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    Map.class
-            );
-
-            Map<String, Object> result = response.getBody();
-            return extractRedditData(result);
-
-        } catch (Exception e) {
-            System.err.println("Error searching subreddit: " + e.getMessage());
-            return getDefaultRedditData();
-        }
+        // Con el circuito abierto falla de inmediato y se conserva el valor en caché, si hay
+        ResponseEntity<Map> response = upstreamGuard.call(UpstreamGuard.REDDIT, () -> restTemplate.exchange(
+                url,
+                HttpMethod.GET,
+                entity,
+                Map.class
+        ));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> result = response.getBody();
+        return extractRedditData(result);
     }
 
     private Map<String, Object> extractRedditData(Map<String, Object> redditResponse) {
@@ -232,4 +292,11 @@ public class SocialMediaApiServiceImpl implements SocialMediaApiService {
         defaultData.put("message", "No se pudo obtener información de Reddit en este momento");
         return defaultData;
     }
+
+    private record RedditSearch(String query, String subreddit) {
+    }
+
+    // Resultado de una búsqueda; fresh es false si Reddit no respondió
+    private record Answer(Map<String, Object> data, boolean fresh) {
+    }
 }
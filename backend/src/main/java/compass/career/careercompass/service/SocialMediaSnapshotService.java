@@ -0,0 +1,10 @@
+package compass.career.careercompass.service;
+
+import compass.career.careercompass.model.Career;
+import compass.career.careercompass.model.SpecializationArea;
+
+public interface SocialMediaSnapshotService {
+    Object getCareerData(Career career);
+    Object getSpecializationData(SpecializationArea specialization);
+    void refreshAll();
+}
@@ -0,0 +1,207 @@
+package compass.career.careercompass.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import compass.career.careercompass.model.Career;
+import compass.career.careercompass.model.SpecializationArea;
+import compass.career.careercompass.repository.CareerRepository;
+import compass.career.careercompass.repository.SocialMediaSnapshotRepository;
+import compass.career.careercompass.repository.SpecializationAreaRepository;
+import compass.career.careercompass.service.SocialMediaApiService.RedditInformation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Información de Reddit precalculada por carrera y especialización. Un proceso programado
+ * recorre el catálogo y guarda cada resultado en la tabla social_media_snapshots; las páginas
+ * de detalle solo leen esa tabla y nunca llaman a Reddit.
+ */
+@Service
+@Slf4j
+public class SocialMediaSnapshotServiceImpl implements SocialMediaSnapshotService {
+
+    private static final String CAREER = "career";
+    private static final String SPECIALIZATION = "specialization";
+
+    private final SocialMediaApiService socialMediaApiService;
+    private final SocialMediaSnapshotRepository snapshotRepository;
+    private final CareerRepository careerRepository;
+    private final SpecializationAreaRepository specializationAreaRepository;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor snapshotExecutor;
+
+    private final long warmupIntervalMs;
+    // Pausa entre entradas para no exceder el límite de peticiones de Reddit
+    private final long requestDelayMs;
+
+    // Entradas sin snapshot cuya carga ya está en curso
+    private final Set<String> pendingLoads = ConcurrentHashMap.newKeySet();
+
+    public SocialMediaSnapshotServiceImpl(SocialMediaApiService socialMediaApiService,
+                                          SocialMediaSnapshotRepository snapshotRepository,
+                                          CareerRepository careerRepository,
+                                          SpecializationAreaRepository specializationAreaRepository,
+                                          ObjectMapper objectMapper,
+                                          @Qualifier("socialSnapshotExecutor") TaskExecutor snapshotExecutor,
+                                          @Value("${social.warmup.interval-ms:21600000}") long warmupIntervalMs,
+                                          @Value("${social.warmup.request-delay-ms:5000}") long requestDelayMs) {
+        this.socialMediaApiService = socialMediaApiService;
+        this.snapshotRepository = snapshotRepository;
+        this.careerRepository = careerRepository;
+        this.specializationAreaRepository = specializationAreaRepository;
+        this.objectMapper = objectMapper;
+        this.snapshotExecutor = snapshotExecutor;
+        this.warmupIntervalMs = warmupIntervalMs;
+        this.requestDelayMs = requestDelayMs;
+    }
+
+    @Override
+    public Object getCareerData(Career career) {
+        return read(CAREER, career.getId(), () -> socialMediaApiService.getCareerInformation(career.getName()));
+    }
+
+    @Override
+    public Object getSpecializationData(SpecializationArea specialization) {
+        return read(SPECIALIZATION, specialization.getId(),
+                () -> socialMediaApiService.getSpecializationInformation(specialization.getName()));
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${social.warmup.initial-delay-ms:30000}",
+            fixedDelayString = "${social.warmup.interval-ms:21600000}")
+    public void refreshAll() {
+        log.info("Refreshing social media snapshots");
+
+        int refreshed = 0;
+        int failed = 0;
+        try {
+            for (Career career : careerRepository.findAll()) {
+                switch (refreshIfOutdated(CAREER, career.getId(),
+                        () -> socialMediaApiService.getCareerInformation(career.getName()))) {
+                    case REFRESHED -> refreshed++;
+                    case FAILED -> failed++;
+                    default -> {
+                    }
+                }
+            }
+            for (SpecializationArea specialization : specializationAreaRepository.findAll()) {
+                switch (refreshIfOutdated(SPECIALIZATION, specialization.getId(),
+                        () -> socialMediaApiService.getSpecializationInformation(specialization.getName()))) {
+                    case REFRESHED -> refreshed++;
+                    case FAILED -> failed++;
+                    default -> {
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Social media snapshot refresh interrupted");
+        }
+
+        log.info("Refreshed {} social media snapshots ({} failed and kept their previous data)", refreshed, failed);
+    }
+
+    private Object read(String entityType, Integer entityId, Supplier<RedditInformation> loader) {
+        return snapshotRepository.findByEntityTypeAndEntityId(entityType, entityId)
+                .map(snapshot -> deserialize(snapshot.getDataJson()))
+                .orElseGet(() -> {
+                    // Entrada nueva: se carga en segundo plano y se responde sin datos por ahora
+                    scheduleLoad(entityType, entityId, loader);
+                    return getPendingData();
+                });
+    }
+
+    private Refresh refreshIfOutdated(String entityType, Integer entityId, Supplier<RedditInformation> loader)
+            throws InterruptedException {
+        // Si otro nodo lo actualizó hace poco, no se vuelve a consultar Reddit
+        LocalDateTime threshold = LocalDateTime.now().minusNanos(warmupIntervalMs / 2 * 1_000_000);
+        boolean recent = snapshotRepository.findByEntityTypeAndEntityId(entityType, entityId)
+                .map(snapshot -> snapshot.getRefreshedAt().isAfter(threshold))
+                .orElse(false);
+        if (recent) {
+            return Refresh.SKIPPED;
+        }
+
+        // Un error en una entrada (base de datos, serialización) no detiene el resto del recorrido
+        Refresh result;
+        try {
+            result = save(entityType, entityId, loader.get()) ? Refresh.REFRESHED : Refresh.FAILED;
+        } catch (RuntimeException e) {
+            log.warn("Error refreshing social media snapshot {}:{}: {}", entityType, entityId, e.getMessage());
+            result = Refresh.FAILED;
+        }
+        Thread.sleep(requestDelayMs);
+        return result;
+    }
+
+    private void scheduleLoad(String entityType, Integer entityId, Supplier<RedditInformation> loader) {
+        String key = entityType + ":" + entityId;
+        if (!pendingLoads.add(key)) {
+            return;
+        }
+        try {
+            snapshotExecutor.execute(() -> {
+                try {
+                    save(entityType, entityId, loader.get());
+                } catch (Exception e) {
+                    log.warn("Error loading social media snapshot {}: {}", key, e.getMessage());
+                } finally {
+                    pendingLoads.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingLoads.remove(key);
+        }
+    }
+
+    /**
+     * Guarda el resultado. Uno incompleto (alguna búsqueda sin respuesta de Reddit) solo se
+     * guarda si aún no hay snapshot, para no reemplazar datos buenos; devuelve false si se omitió.
+     */
+    private boolean save(String entityType, Integer entityId, RedditInformation information) {
+        if (!information.complete()
+                && snapshotRepository.findByEntityTypeAndEntityId(entityType, entityId).isPresent()) {
+            log.warn("Keeping social media snapshot {}:{}; Reddit did not answer every search", entityType, entityId);
+            return false;
+        }
+
+        String dataJson;
+        try {
+            dataJson = objectMapper.writeValueAsString(information.data());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializing social media data", e);
+        }
+        // Upsert: la carga en segundo plano y el recorrido de otro nodo pueden crear la misma entrada
+        snapshotRepository.upsert(entityType, entityId, dataJson, LocalDateTime.now());
+        return true;
+    }
+
+    private Object deserialize(String dataJson) {
+        try {
+            return objectMapper.readValue(dataJson, Object.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Invalid social media snapshot: {}", e.getMessage());
+            return getPendingData();
+        }
+    }
+
+    private enum Refresh { REFRESHED, SKIPPED, FAILED }
+
+    private Map<String, Object> getPendingData() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("message", "La información de redes sociales se está preparando, intenta más tarde");
+        return data;
+    }
+}
@@ -13,9 +13,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,30 +24,80 @@ public class SpecializationServiceImpl implements SpecializationService {
     private final SpecializationAreaRepository specializationAreaRepository;
     private final SpecializationRecommendationRepository specializationRecommendationRepository;
     private final UserRepository userRepository;
-    private final CompletedEvaluationRepository completedEvaluationRepository;
+    private final LatestTestResults latestTestResults;
     private final SkillRepository skillRepository;
-    private final SocialMediaApiService socialMediaApiService;
+    private final SocialMediaSnapshotService socialMediaSnapshotService;
     private final CareerRepository careerRepository;
     private final GroqService groqService;
     private final ObjectMapper objectMapper;
+    private final RecommendationPhaseRunner phaseRunner;
+    private final RecommendationCache recommendationCache;
+    private final RecommendationSingleFlight singleFlight;
+    private final CatalogFeatureIndex featureIndex;
+    private final PromptEncoder promptEncoder;
 
-    // Caché simple de recomendaciones (1 hora)
-    private final Map<Integer, CachedSpecializationRecommendations> cache = new ConcurrentHashMap<>();
+    private static final String PHASE_TYPE = "specialization";
 
     @Override
-    @Transactional
     public List<SpecializationRecommendationResponse> getRecommendedSpecializations(Integer userId) {
         log.info("Generating specialization recommendations for user {}", userId);
 
         // Verificar caché
-        CachedSpecializationRecommendations cached = cache.get(userId);
-        if (cached != null && !cached.isExpired()) {
+        List<SpecializationRecommendationResponse> cached = recommendationCache.getSpecializations(userId);
+        if (cached != null) {
             log.info("Returning cached specialization recommendations for user {}", userId);
-            return cached.getRecommendations();
+            return cached;
+        }
+
+        // Las llamadas concurrentes del mismo usuario comparten una sola generación
+        return singleFlight.execute(PHASE_TYPE, userId, () -> generateRecommendations(userId));
+    }
+
+    private List<SpecializationRecommendationResponse> generateRecommendations(Integer userId) {
+        // Fase 1: lectura (transacción corta)
+        SpecializationRecommendationInput input = phaseRunner.read(PHASE_TYPE, () -> loadRecommendationInput(userId));
+
+        if (input.existingResponses != null) {
+            // Guardar en caché
+            recommendationCache.putSpecializations(userId, input.existingResponses);
+            return input.existingResponses;
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
+        // Fase 2: llamada a Groq AI sin retener conexión a la base de datos
+        List<SpecializationRecommendationResult> aiRecommendations = phaseRunner.external(PHASE_TYPE, () -> {
+            try {
+                return generateSpecializationRecommendations(
+                        input.personalityResults,
+                        input.vocationalResults,
+                        input.cognitiveResults,
+                        input.skillsMap,
+                        input.specializationInfoList
+                );
+            } catch (UpstreamGuard.RejectedCallException e) {
+                throw e;
+            } catch (Exception e) {
+                log.error("Error generating specialization recommendations with Groq AI", e);
+                throw new RuntimeException("Failed to generate specialization recommendations", e);
+            }
+        });
+
+        // Fase 3: escritura (transacción corta)
+        List<SpecializationRecommendationResponse> responses =
+                phaseRunner.write(PHASE_TYPE, () -> saveRecommendations(userId, aiRecommendations));
+
+        // Guardar en caché
+        recommendationCache.putSpecializations(userId, responses);
+
+        log.info("Successfully generated and saved {} specialization recommendations for user {}", responses.size(), userId);
+        return responses;
+    }
+
+    private SpecializationRecommendationInput loadRecommendationInput(Integer userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("User not found");
+        }
+
+        SpecializationRecommendationInput input = new SpecializationRecommendationInput();
 
         // Verificar si ya existen recomendaciones en BD (generadas previamente)
         List<SpecializationRecommendation> existingRecommendations =
@@ -58,31 +106,29 @@ public class SpecializationServiceImpl implements SpecializationService {
         if (!existingRecommendations.isEmpty()) {
             log.info("Found {} existing specialization recommendations in database for user {}",
                     existingRecommendations.size(), userId);
-            List<SpecializationRecommendationResponse> responses = existingRecommendations.stream()
+            input.existingResponses = existingRecommendations.stream()
                     .map(SpecializationMapper::toRecommendationResponse)
                     .collect(Collectors.toList());
-
-            // Guardar en caché
-            cache.put(userId, new CachedSpecializationRecommendations(responses));
-            return responses;
+            return input;
         }
 
         // Generar nuevas recomendaciones usando Groq AI
         log.info("Generating NEW specialization recommendations using Groq AI for user {}", userId);
 
         // 1. Obtener resultados de los tests
-        Map<String, Object> personalityResults = getTestResults(userId, "personality");
-        Map<String, Object> vocationalResults = getTestResults(userId, "vocational_interests");
-        Map<String, Object> cognitiveResults = getTestResults(userId, "cognitive_skills");
+        LatestTestResults.Outcomes testResults = latestTestResults.load(userId);
+        input.personalityResults = testResults.personality();
+        input.vocationalResults = testResults.vocational();
+        input.cognitiveResults = testResults.cognitive();
 
         // Validar que el usuario haya completado al menos un test
-        if (personalityResults.isEmpty() && vocationalResults.isEmpty() && cognitiveResults.isEmpty()) {
+        if (testResults.isEmpty()) {
             throw new IllegalStateException("User must complete at least one evaluation to get recommendations");
         }
 
         // 2. Obtener habilidades del usuario
         List<Skill> userSkills = skillRepository.findByUserId(userId);
-        Map<String, Integer> skillsMap = userSkills.stream()
+        input.skillsMap = userSkills.stream()
                 .collect(Collectors.toMap(
                         Skill::getSkillName,
                         Skill::getProficiencyLevel
@@ -95,7 +141,7 @@ public class SpecializationServiceImpl implements SpecializationService {
         }
 
         // 4. Preparar información de especializaciones para Groq AI
-        List<SpecializationInfo> specializationInfoList = allSpecializations.stream()
+        input.specializationInfoList = allSpecializations.stream()
                 .map(s -> new SpecializationInfo(
                         s.getId(),
                         s.getName(),
@@ -106,26 +152,29 @@ public class SpecializationServiceImpl implements SpecializationService {
                 ))
                 .collect(Collectors.toList());
 
-        // 5. Llamar a Groq AI para generar recomendaciones
-        List<SpecializationRecommendationResult> aiRecommendations;
-        try {
-            aiRecommendations = generateSpecializationRecommendations(
-                    personalityResults,
-                    vocationalResults,
-                    cognitiveResults,
-                    skillsMap,
-                    specializationInfoList
-            );
-        } catch (Exception e) {
-            log.error("Error generating specialization recommendations with Groq AI", e);
-            throw new RuntimeException("Failed to generate specialization recommendations", e);
-        }
+        return input;
+    }
+
+    private List<SpecializationRecommendationResponse> saveRecommendations(
+            Integer userId, List<SpecializationRecommendationResult> aiRecommendations) {
+
+        User user = userRepository.getReferenceById(userId);
+
+        // Reemplazar cualquier resultado escrito en paralelo (p. ej. desde otro nodo)
+        specializationRecommendationRepository.deleteByUserId(userId);
+
+        Map<Integer, SpecializationArea> specializations = specializationAreaRepository.findAllById(aiRecommendations.stream()
+                        .map(SpecializationRecommendationResult::getSpecializationId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(SpecializationArea::getId, s -> s));
 
-        // 6. Guardar recomendaciones en la base de datos
         List<SpecializationRecommendation> savedRecommendations = new ArrayList<>();
         for (SpecializationRecommendationResult aiRec : aiRecommendations) {
-            SpecializationArea specialization = specializationAreaRepository.findById(aiRec.getSpecializationId())
-                    .orElseThrow(() -> new EntityNotFoundException("Specialization not found: " + aiRec.getSpecializationId()));
+            SpecializationArea specialization = specializations.get(aiRec.getSpecializationId());
+            if (specialization == null) {
+                throw new EntityNotFoundException("Specialization not found: " + aiRec.getSpecializationId());
+            }
 
             SpecializationRecommendation recommendation = new SpecializationRecommendation();
             recommendation.setUser(user);
@@ -135,25 +184,18 @@ public class SpecializationServiceImpl implements SpecializationService {
             savedRecommendations.add(specializationRecommendationRepository.save(recommendation));
         }
 
-        // 7. Construir respuesta
-        List<SpecializationRecommendationResponse> responses = savedRecommendations.stream()
+        return savedRecommendations.stream()
                 .map(SpecializationMapper::toRecommendationResponse)
                 .collect(Collectors.toList());
-
-        // 8. Guardar en caché
-        cache.put(userId, new CachedSpecializationRecommendations(responses));
-
-        log.info("Successfully generated and saved {} specialization recommendations for user {}", responses.size(), userId);
-        return responses;
     }
 
     /**
      * Genera recomendaciones de especializaciones usando Groq AI
      */
     private List<SpecializationRecommendationResult> generateSpecializationRecommendations(
-            Map<String, Object> personalityResults,
-            Map<String, Object> vocationalResults,
-            Map<String, Object> cognitiveResults,
+            PersonalityOutcome personalityResults,
+            VocationalOutcome vocationalResults,
+            CognitiveOutcome cognitiveResults,
             Map<String, Integer> userSkills,
             List<SpecializationInfo> availableSpecializations) {
 
@@ -173,7 +215,8 @@ public class SpecializationServiceImpl implements SpecializationService {
                     "Eres un consejero académico experto que analiza perfiles de estudiantes para recomendar " +
                             "especializaciones académicas. Debes considerar los resultados de tests vocacionales, " +
                             "habilidades actuales del estudiante y las características de cada especialización. " +
-                            "IMPORTANTE: Debes devolver SOLO un JSON válido sin texto adicional."
+                            "IMPORTANTE: Debes devolver SOLO un JSON válido sin texto adicional.",
+                    PHASE_TYPE
             );
 
             // Parsear respuesta
@@ -184,8 +227,15 @@ public class SpecializationServiceImpl implements SpecializationService {
 
             List<SpecializationRecommendationResult> result = new ArrayList<>();
             for (Map<String, Object> rec : recommendations) {
+                SpecializationInfo specialization = promptEncoder.resolve(
+                        availableSpecializations, (Number) rec.get("specializationId"));
+                if (specialization == null) {
+                    log.warn("Groq API returned unknown specialization position: {}", rec.get("specializationId"));
+                    continue;
+                }
+
                 SpecializationRecommendationResult recommendation = new SpecializationRecommendationResult();
-                recommendation.setSpecializationId(((Number) rec.get("specializationId")).intValue());
+                recommendation.setSpecializationId(specialization.getId());
                 recommendation.setCompatibilityPercentage(((Number) rec.get("compatibilityPercentage")).doubleValue());
                 recommendation.setReason((String) rec.get("reason"));
                 result.add(recommendation);
@@ -193,6 +243,8 @@ public class SpecializationServiceImpl implements SpecializationService {
 
             return result;
 
+        } catch (UpstreamGuard.RejectedCallException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error parsing Groq AI response for specializations", e);
             throw new RuntimeException("Failed to parse specialization recommendations", e);
@@ -203,158 +255,50 @@ public class SpecializationServiceImpl implements SpecializationService {
      * Construye el prompt para recomendaciones de especializaciones
      */
     private String buildSpecializationPrompt(
-            Map<String, Object> personalityResults,
-            Map<String, Object> vocationalResults,
-            Map<String, Object> cognitiveResults,
+            PersonalityOutcome personalityResults,
+            VocationalOutcome vocationalResults,
+            CognitiveOutcome cognitiveResults,
             Map<String, Integer> userSkills,
             List<SpecializationInfo> availableSpecializations) {
 
         StringBuilder prompt = new StringBuilder();
-        prompt.append("# PERFIL DEL ESTUDIANTE\n\n");
-
-        // Test de Personalidad (RIASEC)
-        if (personalityResults != null && !personalityResults.isEmpty()) {
-            prompt.append("## 1. Test de Personalidad (Modelo RIASEC):\n");
-            @SuppressWarnings("unchecked")
-            Map<String, Object> dimensions = (Map<String, Object>) personalityResults.get("dimensions");
-            if (dimensions != null) {
-                dimensions.forEach((category, score) ->
-                        prompt.append(String.format("- %s: %.1f%%\n", category, ((Number) score).doubleValue()))
-                );
-            }
-            prompt.append("\n");
-        }
-
-        // Test de Intereses Vocacionales
-        if (vocationalResults != null && !vocationalResults.isEmpty()) {
-            prompt.append("## 2. Test de Intereses Vocacionales:\n");
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> topAreas = (List<Map<String, Object>>) vocationalResults.get("topAreas");
-            if (topAreas != null) {
-                for (Map<String, Object> area : topAreas) {
-                    prompt.append(String.format("- %s: %.1f%%\n",
-                            area.get("area"),
-                            ((Number) area.get("percentage")).doubleValue()));
-                }
-            }
-            prompt.append("\n");
-        }
-
-        // Test de Habilidades Cognitivas
-        if (cognitiveResults != null && !cognitiveResults.isEmpty()) {
-            prompt.append("## 3. Test de Habilidades Cognitivas:\n");
-            @SuppressWarnings("unchecked")
-            Map<String, Object> cognitiveAreas = (Map<String, Object>) cognitiveResults.get("cognitiveAreas");
-            if (cognitiveAreas != null) {
-                cognitiveAreas.forEach((area, data) -> {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> areaData = (Map<String, Object>) data;
-                    prompt.append(String.format("- %s: %.1f%% (Nivel: %s)\n",
-                            area,
-                            ((Number) areaData.get("score")).doubleValue(),
-                            areaData.get("level")));
-                });
-            }
-            prompt.append("\n");
-        }
-
-        // Habilidades actuales del estudiante
-        if (!userSkills.isEmpty()) {
-            prompt.append("## 4. Habilidades Actuales del Estudiante:\n");
-            userSkills.forEach((skill, level) ->
-                    prompt.append(String.format("- %s: Nivel %d/5\n", skill, level))
-            );
-            prompt.append("\n");
-        }
-
-        // Especializaciones disponibles
-        prompt.append("# ESPECIALIZACIONES ACADÉMICAS DISPONIBLES\n\n");
-        for (SpecializationInfo spec : availableSpecializations) {
-            prompt.append(String.format("- **ID:** %d | **Nombre:** %s | **Carrera:** %s\n",
+        prompt.append("# PERFIL (0-100)\n");
+        prompt.append("P=personalidad O,C,E,A,N; V=intereses vocacionales; G=habilidades cognitivas; S=habilidades técnicas (1-5)\n");
+        prompt.append(promptEncoder.profile(personalityResults, vocationalResults, cognitiveResults));
+        prompt.append(promptEncoder.skills(userSkills));
+
+        // Especializaciones disponibles, identificadas por su posición
+        prompt.append("\n# ESPECIALIZACIONES (n|nombre|carrera|descripción|campos de aplicación|proyección laboral)\n");
+        for (int i = 0; i < availableSpecializations.size(); i++) {
+            SpecializationInfo spec = availableSpecializations.get(i);
+            prompt.append(i + 1).append('|').append(promptEncoder.specializationLine(
                     spec.getId(),
                     spec.getName(),
-                    spec.getCareerName()
-            ));
-            if (spec.getDescription() != null && !spec.getDescription().isEmpty()) {
-                prompt.append(String.format("  Descripción: %s\n", spec.getDescription()));
-            }
-            if (spec.getApplicationFields() != null && !spec.getApplicationFields().isEmpty()) {
-                prompt.append(String.format("  Campos de aplicación: %s\n", spec.getApplicationFields()));
-            }
-            if (spec.getJobProjection() != null && !spec.getJobProjection().isEmpty()) {
-                prompt.append(String.format("  Proyección laboral: %s\n", spec.getJobProjection()));
-            }
-            prompt.append("\n");
+                    spec.getCareerName(),
+                    spec.getDescription(),
+                    spec.getApplicationFields(),
+                    spec.getJobProjection()
+            )).append('\n');
         }
 
-        prompt.append("# INSTRUCCIONES\n\n");
-        prompt.append("1. Analiza la compatibilidad entre el perfil del estudiante y cada especialización disponible\n");
-        prompt.append("2. Considera TODOS los factores:\n");
-        prompt.append("   - Personalidad RIASEC\n");
-        prompt.append("   - Intereses vocacionales\n");
-        prompt.append("   - Habilidades cognitivas\n");
-        prompt.append("   - Habilidades técnicas actuales del estudiante\n");
-        prompt.append("3. Calcula un porcentaje de compatibilidad (0-100) para cada especialización\n");
-        prompt.append("4. Una especialización es compatible si:\n");
-        prompt.append("   - Se alinea con los intereses vocacionales del estudiante\n");
-        prompt.append("   - Las habilidades actuales del estudiante son útiles o pueden desarrollarse en esa área\n");
-        prompt.append("   - El perfil de personalidad encaja con el tipo de trabajo en esa especialización\n");
-        prompt.append("5. Ordena las especializaciones de mayor a menor compatibilidad\n");
-        prompt.append("6. Devuelve SOLO las TOP 10 especializaciones más compatibles\n");
-        prompt.append("7. Para cada especialización incluye una razón específica y personalizada (2-3 oraciones)\n\n");
-
-        prompt.append("# FORMATO DE RESPUESTA\n\n");
-        prompt.append("Devuelve ÚNICAMENTE un JSON con este formato exacto:\n\n");
-        prompt.append("{\n");
-        prompt.append("  \"recommendations\": [\n");
-        prompt.append("    {\n");
-        prompt.append("      \"specializationId\": 1,\n");
-        prompt.append("      \"compatibilityPercentage\": 94.5,\n");
-        prompt.append("      \"reason\": \"Tu fuerte inclinación hacia el análisis lógico (85%) y tus habilidades en programación (nivel 4/5) te hacen ideal para esta especialización. La proyección laboral en esta área es excelente y se alinea perfectamente con tus intereses en tecnología.\"\n");
-        prompt.append("    }\n");
-        prompt.append("  ]\n");
-        prompt.append("}\n");
+        prompt.append("\n# INSTRUCCIONES\n");
+        prompt.append("Calcula la compatibilidad (0-100) del perfil con cada especialización: alineación con los intereses, ");
+        prompt.append("utilidad de las habilidades actuales y encaje de la personalidad con el tipo de trabajo. ");
+        prompt.append("Devuelve SOLO las TOP 10, de mayor a menor, con una razón personalizada de 2-3 oraciones.\n");
+        prompt.append("JSON exacto: {\"recommendations\":[{\"specializationId\":n,\"compatibilityPercentage\":94.5,\"reason\":\"...\"}]}\n");
+        prompt.append("specializationId es el número n de la lista.\n");
 
         return prompt.toString();
     }
 
-    private Map<String, Object> getTestResults(Integer userId, String testTypeName) {
-        // Buscar evaluación más reciente del usuario para este tipo de test
-        List<CompletedEvaluation> evaluations = completedEvaluationRepository.findByUserIdOrderByCompletionDateDesc(userId);
-
-        Optional<CompletedEvaluation> relevantEvaluation = evaluations.stream()
-                .filter(e -> testTypeName.equals(e.getTest().getTestType().getName()))
-                .findFirst();
-
-        if (relevantEvaluation.isEmpty()) {
-            log.debug("User {} has not completed {} test", userId, testTypeName);
-            return Collections.emptyMap();
-        }
-
-        // Obtener resultado JSON
-        CompletedEvaluation evaluation = relevantEvaluation.get();
-        if (evaluation.getEvaluationResult() == null) {
-            log.warn("No result found for evaluation {}", evaluation.getId());
-            return Collections.emptyMap();
-        }
-
-        try {
-            String jsonResult = evaluation.getEvaluationResult().getResultJson();
-            return objectMapper.readValue(jsonResult, Map.class);
-        } catch (Exception e) {
-            log.error("Error parsing {} test results for user {}", testTypeName, userId, e);
-            return Collections.emptyMap();
-        }
-    }
-
     @Override
     @Transactional(readOnly = true)
     public SpecializationDetailResponse getSpecializationDetails(Integer specializationId) {
         SpecializationArea specialization = specializationAreaRepository.findById(specializationId)
                 .orElseThrow(() -> new EntityNotFoundException("Specialization area not found"));
 
-        // Obtener información adicional de API de medios sociales
-        Object socialMediaData = socialMediaApiService.getSpecializationInformation(specialization.getName());
+        // Información de redes sociales precalculada (sin llamadas a Reddit en la petición)
+        Object socialMediaData = socialMediaSnapshotService.getSpecializationData(specialization);
 
         return SpecializationMapper.toDetailResponse(specialization, socialMediaData);
     }
@@ -392,6 +336,7 @@ public class SpecializationServiceImpl implements SpecializationService {
 
         SpecializationArea specialization = AdminMapper.toSpecializationEntity(request, career);
         SpecializationArea saved = specializationAreaRepository.save(specialization);
+        featureIndex.invalidate();
         return AdminMapper.toSpecializationResponse(saved);
     }
 
@@ -406,25 +351,18 @@ public class SpecializationServiceImpl implements SpecializationService {
 
         AdminMapper.copyToSpecializationEntity(request, specialization, career);
         SpecializationArea saved = specializationAreaRepository.save(specialization);
+        featureIndex.invalidate();
         return AdminMapper.toSpecializationResponse(saved);
     }
 
-    private static class CachedSpecializationRecommendations {
-        private final List<SpecializationRecommendationResponse> recommendations;
-        private final LocalDateTime expiresAt;
-
-        public CachedSpecializationRecommendations(List<SpecializationRecommendationResponse> recommendations) {
-            this.recommendations = recommendations;
-            this.expiresAt = LocalDateTime.now().plusHours(1); // Caché de 1 hora
-        }
-
-        public boolean isExpired() {
-            return LocalDateTime.now().isAfter(expiresAt);
-        }
-
-        public List<SpecializationRecommendationResponse> getRecommendations() {
-            return recommendations;
-        }
+    // Datos leídos en la fase de lectura para la llamada a Groq AI
+    private static class SpecializationRecommendationInput {
+        private List<SpecializationRecommendationResponse> existingResponses;
+        private PersonalityOutcome personalityResults;
+        private VocationalOutcome vocationalResults;
+        private CognitiveOutcome cognitiveResults;
+        private Map<String, Integer> skillsMap;
+        private List<SpecializationInfo> specializationInfoList;
     }
 
     private static class SpecializationInfo {
@@ -26,6 +26,7 @@ public class TestServiceImpl implements TestService {
     private final TestRepository testRepository;
     private final TestTypeRepository testTypeRepository;
     private final QuestionRepository questionRepository;
+    private final QuestionBank questionBank;
 
     @Override
     @Transactional(readOnly = true)
@@ -67,6 +68,7 @@ public class TestServiceImpl implements TestService {
 
         Test test = AdminMapper.toTestEntity(request, testType);
         Test saved = testRepository.save(test);
+        questionBank.invalidate();
 
         return TestMapper.toResponse(saved);
     }
@@ -103,6 +105,8 @@ public class TestServiceImpl implements TestService {
         existingTest.getQuestions().addAll(newTestData.getQuestions());
 
         Test saved = testRepository.save(existingTest);
+        questionBank.invalidate();
+
         return TestMapper.toResponse(saved);
     }
 }
\ No newline at end of file
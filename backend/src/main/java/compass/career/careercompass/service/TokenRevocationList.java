@@ -0,0 +1,55 @@
+package compass.career.careercompass.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Revocación de JWT en memoria. Guarda los ids de token cerrados con logout y, por usuario,
+ * el instante a partir del cual se invalidan todos sus tokens (cambio de contraseña).
+ * Las entradas se descartan cuando ya no puede existir un token vigente al que apliquen.
+ */
+@Component
+@Slf4j
+public class TokenRevocationList {
+
+    private final long jwtExpiration;
+
+    // id de token -> expiración del token (ms)
+    private final ConcurrentMap<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    // id de usuario -> tokens emitidos antes de este instante (segundos) son inválidos
+    private final ConcurrentMap<Integer, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    public TokenRevocationList(@Value("${security.jwt.expiration-time}") long jwtExpiration) {
+        this.jwtExpiration = jwtExpiration;
+    }
+
+    public void revokeToken(String tokenId, Date expiresAt) {
+        revokedTokens.put(tokenId, expiresAt != null ? expiresAt.getTime() : System.currentTimeMillis() + jwtExpiration);
+    }
+
+    public void revokeUser(Integer userId) {
+        // "iat" tiene precisión de segundos: se conservan los tokens emitidos en el mismo segundo
+        revokedBefore.put(userId, System.currentTimeMillis() / 1000);
+    }
+
+    public boolean isRevoked(String tokenId, Integer userId, Date issuedAt) {
+        if (tokenId != null && revokedTokens.containsKey(tokenId)) {
+            return true;
+        }
+        Long cutoff = userId != null ? revokedBefore.get(userId) : null;
+        return cutoff != null && (issuedAt == null || issuedAt.getTime() / 1000 < cutoff);
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.revocation-sweep-interval-ms:300000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt < now);
+        revokedBefore.values().removeIf(cutoff -> cutoff * 1000 + jwtExpiration < now);
+    }
+}
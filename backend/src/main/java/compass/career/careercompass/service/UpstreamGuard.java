@@ -0,0 +1,253 @@
+package compass.career.careercompass.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Protección compartida para las llamadas a servicios externos (Groq, Azure, Reddit).
+ * Cada servicio tiene un token bucket, un bulkhead (llamadas concurrentes acotadas) y un
+ * circuit breaker. Si alguno rechaza la llamada se lanza {@link RejectedCallException}
+ * de inmediato, para que el llamador use su resultado por defecto sin esperar un timeout.
+ *
+ * <p>Configuración por servicio con el prefijo {@code resilience.<servicio>.}.
+ */
+@Component
+@Slf4j
+public class UpstreamGuard {
+
+    public static final String GROQ = "groq";
+    public static final String AZURE = "azure";
+    public static final String REDDIT = "reddit";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Upstream> upstreams = new ConcurrentHashMap<>();
+
+    public UpstreamGuard(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Ejecuta la llamada si el servicio la admite. Las excepciones de la llamada se propagan
+     * sin cambios; solo cuentan como fallo para el circuit breaker las respuestas 5xx y 429,
+     * los errores de E/S y los timeouts. Un 4xx es culpa de la petición, no del servicio.
+     *
+     * @throws RejectedCallException si se excede el límite de peticiones, el bulkhead está
+     *                               lleno o el circuito está abierto
+     */
+    public <T> T call(String upstream, Callable<T> call) throws Exception {
+        return upstreams.computeIfAbsent(upstream, this::create).call(call);
+    }
+
+    private Upstream create(String name) {
+        String prefix = "resilience." + name + ".";
+        Upstream upstream = new Upstream(
+                name,
+                environment.getProperty(prefix + "rate-per-second", Double.class, 5.0),
+                environment.getProperty(prefix + "burst", Integer.class, 10),
+                environment.getProperty(prefix + "max-concurrent", Integer.class, 8),
+                environment.getProperty(prefix + "window-size", Integer.class, 20),
+                environment.getProperty(prefix + "minimum-calls", Integer.class, 5),
+                environment.getProperty(prefix + "failure-rate-threshold", Double.class, 0.5),
+                environment.getProperty(prefix + "open-duration-ms", Long.class, 30000L),
+                environment.getProperty(prefix + "half-open-calls", Integer.class, 2));
+
+        Gauge.builder("resilience.circuit.state", upstream, u -> u.state.ordinal())
+                .description("Estado del circuito: 0 cerrado, 1 abierto, 2 semiabierto")
+                .tag("upstream", name)
+                .register(meterRegistry);
+
+        return upstream;
+    }
+
+    static boolean upstreamFailure(Throwable e) {
+        if (e instanceof RestClientResponseException response) {
+            HttpStatusCode status = response.getStatusCode();
+            return status.is5xxServerError() || status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+        }
+        return e instanceof IOException || e instanceof ResourceAccessException || e instanceof TimeoutException;
+    }
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final class Upstream {
+        private final String name;
+
+        // Token bucket
+        private final double tokensPerNano;
+        private final int burst;
+        private double tokens;
+        private long lastRefill = System.nanoTime();
+
+        // Bulkhead
+        private final Semaphore permits;
+
+        // Circuit breaker: ventana deslizante con el resultado de las últimas llamadas
+        private final boolean[] failures;
+        private final int minimumCalls;
+        private final double failureRateThreshold;
+        private final long openDurationNanos;
+        private final int halfOpenCalls;
+        private int windowPosition;
+        private int windowCount;
+        private int windowFailures;
+        private volatile State state = State.CLOSED;
+        private long openedAt;
+        private int halfOpenStarted;
+        private int halfOpenSucceeded;
+
+        private Upstream(String name, double ratePerSecond, int burst, int maxConcurrent, int windowSize,
+                         int minimumCalls, double failureRateThreshold, long openDurationMs, int halfOpenCalls) {
+            this.name = name;
+            this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.burst = burst;
+            this.tokens = burst;
+            this.permits = new Semaphore(maxConcurrent);
+            this.failures = new boolean[windowSize];
+            this.minimumCalls = minimumCalls;
+            this.failureRateThreshold = failureRateThreshold;
+            this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+            this.halfOpenCalls = halfOpenCalls;
+        }
+
+        private <T> T call(Callable<T> call) throws Exception {
+            if (!acquireCircuit()) {
+                throw reject("circuit_open");
+            }
+            if (!acquireToken()) {
+                releaseCircuit();
+                throw reject("rate_limited");
+            }
+            if (!permits.tryAcquire()) {
+                releaseCircuit();
+                throw reject("bulkhead_full");
+            }
+
+            try {
+                T result = call.call();
+                record(false);
+                return result;
+            } catch (Throwable e) {
+                // También con Error: sin registrar el resultado, una prueba en HALF_OPEN
+                // no se resuelve y el circuito queda bloqueado
+                record(upstreamFailure(e));
+                throw e;
+            } finally {
+                permits.release();
+            }
+        }
+
+        private RejectedCallException reject(String reason) {
+            meterRegistry.counter("resilience.calls.rejected", "upstream", name, "reason", reason).increment();
+            return new RejectedCallException(name + " call rejected: " + reason.replace('_', ' '));
+        }
+
+        private synchronized boolean acquireToken() {
+            long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        private synchronized boolean acquireCircuit() {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAt < openDurationNanos) {
+                    return false;
+                }
+                transition(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenStarted >= halfOpenCalls) {
+                    return false;
+                }
+                halfOpenStarted++;
+            }
+            return true;
+        }
+
+        // Devuelve el permiso de prueba si la llamada no llegó a ejecutarse
+        private synchronized void releaseCircuit() {
+            if (state == State.HALF_OPEN && halfOpenStarted > 0) {
+                halfOpenStarted--;
+            }
+        }
+
+        private synchronized void record(boolean failed) {
+            if (state == State.HALF_OPEN) {
+                if (failed) {
+                    transition(State.OPEN);
+                } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                    transition(State.CLOSED);
+                }
+                return;
+            }
+            if (state == State.OPEN) {
+                return;
+            }
+
+            if (windowCount == failures.length) {
+                if (failures[windowPosition]) {
+                    windowFailures--;
+                }
+            } else {
+                windowCount++;
+            }
+            failures[windowPosition] = failed;
+            if (failed) {
+                windowFailures++;
+            }
+            windowPosition = (windowPosition + 1) % failures.length;
+
+            if (windowCount >= minimumCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+                transition(State.OPEN);
+            }
+        }
+
+        private void transition(State target) {
+            log.warn("Circuit for {} changed from {} to {}", name, state, target);
+            meterRegistry.counter("resilience.circuit.transitions",
+                    "upstream", name, "from", state.name(), "to", target.name()).increment();
+
+            state = target;
+            halfOpenStarted = 0;
+            halfOpenSucceeded = 0;
+            if (target == State.OPEN) {
+                openedAt = System.nanoTime();
+            }
+            if (target == State.CLOSED) {
+                windowPosition = 0;
+                windowCount = 0;
+                windowFailures = 0;
+            }
+        }
+    }
+
+    /**
+     * La llamada no se ejecutó: límite de peticiones, bulkhead lleno o circuito abierto.
+     */
+    public static class RejectedCallException extends RuntimeException {
+        public RejectedCallException(String message) {
+            super(message);
+        }
+    }
+}
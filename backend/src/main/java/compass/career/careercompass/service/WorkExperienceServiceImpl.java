@@ -1,6 +1,7 @@
 package compass.career.careercompass.service;
 
 import compass.career.careercompass.dto.WorkExperienceRequest;
+import compass.career.careercompass.dto.CursorPageResponse;
 import compass.career.careercompass.dto.WorkExperienceResponse;
 import compass.career.careercompass.mapper.WorkExperienceMapper;
 import compass.career.careercompass.model.User;
@@ -10,13 +11,9 @@ import compass.career.careercompass.repository.WorkExperienceRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -78,17 +75,18 @@ public class WorkExperienceServiceImpl implements WorkExperienceService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<WorkExperienceResponse> findByUserId(Integer userId, int page, int pageSize) {
-        log.debug("Finding work experiences for user {} with pagination - page: {}, pageSize: {}",
-                userId, page, pageSize);
+    public CursorPageResponse<WorkExperienceResponse> findByUserId(Integer userId, String cursor, int pageSize) {
+        log.debug("Finding work experiences for user {} after cursor {} - pageSize: {}",
+                userId, cursor, pageSize);
 
-        Pageable pageable = PageRequest.of(page, pageSize);
+        KeysetCursor after = KeysetCursor.decode(cursor);
 
-        List<WorkExperienceResponse> workExperiences = repository.findByUserId(userId, pageable).stream()
-                .map(WorkExperienceMapper::toResponse)
-                .collect(Collectors.toList());
+        CursorPageResponse<WorkExperienceResponse> workExperiences = KeysetCursor.toResponse(
+                repository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, after.id(), KeysetCursor.firstPage(pageSize)),
+                WorkExperienceMapper::toResponse,
+                w -> new KeysetCursor(null, w.getId()));
 
-        if (workExperiences.isEmpty()) {
+        if (workExperiences.getItems().isEmpty() && after.isStart()) {
             throw new IllegalArgumentException("There is no work experience registered for this user.");
         }
 
@@ -0,0 +1,4 @@
+-- Las entidades CompletedEvaluation y UserAnswer usan secuencias con allocationSize = 50
+-- para permitir inserts en batch con Hibernate. El incremento de la secuencia debe coincidir.
+ALTER SEQUENCE completed_evaluations_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_answers_id_seq INCREMENT BY 50;
@@ -0,0 +1,4 @@
+-- Fecha de desactivación de cada sesión: los nodos consultan periódicamente las sesiones
+-- desactivadas para descartar los tokens verificados que tienen en caché.
+ALTER TABLE sessions ADD COLUMN IF NOT EXISTS deactivated_at TIMESTAMP;
+CREATE INDEX IF NOT EXISTS idx_sessions_deactivated_at ON sessions (deactivated_at) WHERE active = false;
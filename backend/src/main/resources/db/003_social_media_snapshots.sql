@@ -0,0 +1,10 @@
+-- Información de redes sociales (Reddit) precalculada por carrera y especialización.
+-- La actualiza un proceso programado; las páginas de detalle solo leen esta tabla.
+CREATE TABLE IF NOT EXISTS social_media_snapshots (
+    id           SERIAL PRIMARY KEY,
+    entity_type  VARCHAR(20) NOT NULL,
+    entity_id    INTEGER     NOT NULL,
+    data_json    JSONB       NOT NULL,
+    refreshed_at TIMESTAMP   NOT NULL,
+    CONSTRAINT uk_social_media_snapshots_entity UNIQUE (entity_type, entity_id)
+);
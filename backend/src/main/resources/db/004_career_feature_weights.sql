@@ -0,0 +1,10 @@
+-- Pesos por carrera para el motor de puntuación local de recomendaciones.
+-- feature: 'vocational:<área>', 'cognitive:<área>' o 'personality:<dimensión>' (minúsculas, sin acentos).
+-- weight: entre -1 y 1; los negativos restan compatibilidad.
+CREATE TABLE IF NOT EXISTS career_feature_weights (
+    id        SERIAL PRIMARY KEY,
+    career_id INTEGER      NOT NULL REFERENCES careers (id) ON DELETE CASCADE,
+    feature   VARCHAR(150) NOT NULL,
+    weight    NUMERIC(5, 2) NOT NULL,
+    CONSTRAINT uk_career_feature_weights UNIQUE (career_id, feature)
+);
@@ -0,0 +1,12 @@
+-- Respuestas de Groq reutilizables entre usuarios con perfiles equivalentes.
+-- La huella incluye la versión del catálogo de carreras; las filas de versiones
+-- anteriores o vencidas las borra un proceso programado.
+CREATE TABLE IF NOT EXISTS llm_response_cache (
+    fingerprint     VARCHAR(64) PRIMARY KEY,
+    catalog_version VARCHAR(64) NOT NULL,
+    response_json   JSONB       NOT NULL,
+    created_at      TIMESTAMP   NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_llm_response_cache_catalog_version
+    ON llm_response_cache (catalog_version);
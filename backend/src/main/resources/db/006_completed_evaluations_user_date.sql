@@ -0,0 +1,4 @@
+-- Evaluaciones de un usuario de la más reciente a la más antigua: sirve al historial y a la
+-- búsqueda del último resultado por tipo de test (se detiene en la primera coincidencia).
+CREATE INDEX IF NOT EXISTS idx_completed_evaluations_user_date
+    ON completed_evaluations (user_id, completion_date DESC);
@@ -0,0 +1,3 @@
+-- Copia binaria (Smile o CBOR) del resultado para las lecturas internas de las
+-- recomendaciones; la columna JSONB sigue siendo la fuente para la API.
+ALTER TABLE evaluation_results ADD COLUMN IF NOT EXISTS result_binary BYTEA;
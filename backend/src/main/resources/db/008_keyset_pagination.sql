@@ -0,0 +1,19 @@
+-- Índices para la paginación por llave (keyset): cada página continúa después de la llave
+-- del cursor recorriendo el índice, sin OFFSET ni consulta de conteo.
+CREATE INDEX IF NOT EXISTS idx_careers_name_id
+    ON careers (name, id);
+
+CREATE INDEX IF NOT EXISTS idx_skills_user_id
+    ON skills (user_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_academic_information_user_id
+    ON academic_information (user_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_work_experience_user_id
+    ON work_experience (user_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_favorite_careers_user_active_id
+    ON favorite_careers (user_id, id) WHERE active;
+
+CREATE INDEX IF NOT EXISTS idx_favorite_specializations_user_active_id
+    ON favorite_specializations (user_id, id) WHERE active;
@@ -0,0 +1,138 @@
+package compass.career.careercompass.service;
+
+import compass.career.careercompass.dto.CompleteProfileResponse;
+import compass.career.careercompass.model.*;
+import compass.career.careercompass.repository.*;
+import compass.career.careercompass.support.QueryBudget;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * El perfil completo se arma con un número fijo de sentencias SQL, sin importar cuántos
+ * registros tenga el usuario.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ProfileServiceImplQueryCountTest {
+
+    // Usuario con rol, información académica, experiencia laboral y habilidades
+    private static final int PROFILE_STATEMENTS = 4;
+
+    @Autowired
+    private ProfileService profileService;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private CredentialRepository credentialRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AcademicInformationRepository academicInformationRepository;
+
+    @Autowired
+    private WorkExperienceRepository workExperienceRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void completeProfileUsesFixedNumberOfStatements() {
+        User small = createUser(1);
+        User large = createUser(25);
+        entityManager.flush();
+        entityManager.clear();
+        QueryBudget.assertInstrumented(dataSource);
+
+        // Conteo de Hibernate como segunda fuente; se activa aquí para no depender de la configuración
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        statistics.clear();
+        CompleteProfileResponse smallProfile = QueryBudget.assertExactly(PROFILE_STATEMENTS,
+                () -> profileService.getCompleteProfile(small.getId()));
+        assertEquals(PROFILE_STATEMENTS, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        CompleteProfileResponse largeProfile = QueryBudget.assertExactly(PROFILE_STATEMENTS,
+                () -> profileService.getCompleteProfile(large.getId()));
+        assertEquals(PROFILE_STATEMENTS, statistics.getPrepareStatementCount());
+
+        assertEquals(1, smallProfile.getSkills().size());
+        assertEquals(25, largeProfile.getSkills().size());
+        assertEquals(25, largeProfile.getAcademicInformation().size());
+        assertEquals(25, largeProfile.getWorkExperience().size());
+    }
+
+    private User createUser(int children) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        Role role = new Role();
+        role.setName("profile-test-" + suffix);
+        role = roleRepository.save(role);
+
+        Credential credential = new Credential();
+        credential.setUsername("profile-test-" + suffix);
+        credential.setPassword("secret");
+        credential = credentialRepository.save(credential);
+
+        User user = new User();
+        user.setCredential(credential);
+        user.setRole(role);
+        user.setName("Profile Test");
+        user.setEmail("profile-test-" + suffix + "@example.com");
+        user.setBirthDate(LocalDate.of(2000, 1, 1));
+        user.setCountry("México");
+        user.setCity("Oaxaca");
+        user = userRepository.save(user);
+
+        for (int i = 0; i < children; i++) {
+            AcademicInformation academic = new AcademicInformation();
+            academic.setUser(user);
+            academic.setInstitution("Institución " + i);
+            academic.setAverage(BigDecimal.valueOf(90));
+            academic.setStartDate(LocalDate.of(2018, 1, 1));
+            academicInformationRepository.save(academic);
+
+            WorkExperience work = new WorkExperience();
+            work.setUser(user);
+            work.setCompany("Empresa " + i);
+            work.setPosition("Puesto " + i);
+            work.setDescription("Descripción " + i);
+            work.setStartDate(LocalDate.of(2022, 1, 1));
+            workExperienceRepository.save(work);
+
+            Skill skill = new Skill();
+            skill.setUser(user);
+            skill.setSkillName("Habilidad " + i);
+            skill.setProficiencyLevel(3);
+            skillRepository.save(skill);
+        }
+        return user;
+    }
+}
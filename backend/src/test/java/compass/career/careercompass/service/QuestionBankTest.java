@@ -0,0 +1,128 @@
+package compass.career.careercompass.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import compass.career.careercompass.dto.QuestionResponse;
+import compass.career.careercompass.dto.TestResponse;
+import compass.career.careercompass.mapper.TestMapper;
+import compass.career.careercompass.model.AnswerOption;
+import compass.career.careercompass.model.Question;
+import compass.career.careercompass.model.TestType;
+import compass.career.careercompass.repository.QuestionRepository;
+import compass.career.careercompass.repository.TestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * El JSON armado con los fragmentos precalculados es idéntico, byte por byte, al que produce
+ * Jackson al serializar el {@link TestResponse} equivalente.
+ */
+class QuestionBankTest {
+
+    private static final String TEST_TYPE = "personality";
+    private static final int QUESTIONS = 5;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private QuestionBank.Bank bank;
+    private Map<Integer, QuestionResponse> questionsById;
+
+    @BeforeEach
+    void setUp() {
+        TestType testType = new TestType();
+        testType.setName(TEST_TYPE);
+
+        compass.career.careercompass.model.Test test = new compass.career.careercompass.model.Test();
+        test.setId(7);
+        test.setTestType(testType);
+        test.setName("Test de \"personalidad\"");
+        test.setDescription(null);
+        test.setQuestionsToShow(3);
+
+        List<Question> questions = new ArrayList<>();
+        for (int i = 1; i <= QUESTIONS; i++) {
+            Question question = new Question();
+            question.setId(100 + i);
+            question.setQuestionText("¿Disfrutas trabajar en equipo? #" + i);
+            question.setOrderNumber(i);
+            if (i % 2 == 0) {
+                question.setAnswerOptions(List.of(option(1000 + i, "Sí"), option(2000 + i, "No \\ a veces")));
+            }
+            questions.add(question);
+        }
+
+        TestRepository testRepository = mock(TestRepository.class);
+        QuestionRepository questionRepository = mock(QuestionRepository.class);
+        when(testRepository.findByTestTypeNameAndActiveTrue(TEST_TYPE)).thenReturn(Optional.of(test));
+        when(questionRepository.findActiveWithOptionsByTestId(7)).thenReturn(questions);
+
+        QuestionBank questionBank = new QuestionBank(testRepository, questionRepository,
+                mock(PlatformTransactionManager.class), objectMapper);
+        bank = questionBank.bank(TEST_TYPE, "Test not found");
+        questionsById = questions.stream()
+                .map(TestMapper::toQuestionResponse)
+                .collect(Collectors.toMap(QuestionResponse::getId, Function.identity()));
+    }
+
+    @Test
+    void sampleJsonWithoutQuestions() throws Exception {
+        assertMatchesJackson(bank.sampleJson(0), 0);
+    }
+
+    @Test
+    void sampleJsonWithOneQuestion() throws Exception {
+        assertMatchesJackson(bank.sampleJson(1), 1);
+    }
+
+    @Test
+    void sampleJsonWithAllQuestions() throws Exception {
+        byte[] json = bank.sampleJson(QUESTIONS);
+        assertMatchesJackson(json, QUESTIONS);
+        assertEquals(QUESTIONS, new HashSet<>(questionIds(json)).size());
+    }
+
+    // La muestra es aleatoria: se serializa el DTO con las preguntas en el orden recibido
+    private void assertMatchesJackson(byte[] json, int expectedQuestions) throws Exception {
+        List<Integer> ids = questionIds(json);
+        assertEquals(expectedQuestions, ids.size());
+
+        TestResponse expected = TestResponse.builder()
+                .id(7)
+                .name("Test de \"personalidad\"")
+                .description(null)
+                .testType(TEST_TYPE)
+                .questionsToShow(3)
+                .questions(ids.stream().map(questionsById::get).toList())
+                .build();
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(expected), json);
+    }
+
+    private List<Integer> questionIds(byte[] json) throws Exception {
+        List<Integer> ids = new ArrayList<>();
+        for (JsonNode question : objectMapper.readTree(json).path("Questions")) {
+            ids.add(question.path("Id").asInt());
+        }
+        return ids;
+    }
+
+    private static AnswerOption option(int id, String text) {
+        AnswerOption option = new AnswerOption();
+        option.setId(id);
+        option.setOptionText(text);
+        return option;
+    }
+}
@@ -0,0 +1,109 @@
+package compass.career.careercompass.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Transiciones del circuit breaker: solo los fallos del servicio (5xx, 429, E/S) abren el
+ * circuito y una prueba correcta en semiabierto lo vuelve a cerrar.
+ */
+class UpstreamGuardTest {
+
+    private static final String UPSTREAM = "test";
+    private static final long OPEN_DURATION_MS = 200;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UpstreamGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("resilience.test.rate-per-second", "1000")
+                .withProperty("resilience.test.burst", "100")
+                .withProperty("resilience.test.window-size", "4")
+                .withProperty("resilience.test.minimum-calls", "2")
+                .withProperty("resilience.test.failure-rate-threshold", "0.5")
+                .withProperty("resilience.test.open-duration-ms", Long.toString(OPEN_DURATION_MS))
+                .withProperty("resilience.test.half-open-calls", "1");
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new UpstreamGuard(environment, meterRegistry);
+    }
+
+    @Test
+    void opensOnServerErrorsAndClosesAfterSuccessfulProbe() throws Exception {
+        fail(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+        assertEquals(0, state());
+        fail(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+        assertEquals(1, state());
+
+        AtomicInteger executed = new AtomicInteger();
+        assertThrows(UpstreamGuard.RejectedCallException.class,
+                () -> guard.call(UPSTREAM, executed::incrementAndGet));
+        assertEquals(0, executed.get());
+
+        Thread.sleep(OPEN_DURATION_MS + 50);
+        double stateDuringProbe = guard.call(UPSTREAM, this::state);
+        assertEquals(2, stateDuringProbe);
+        assertEquals(0, state());
+    }
+
+    @Test
+    void failedProbeReopensCircuit() throws Exception {
+        fail(new ResourceAccessException("timeout", new SocketTimeoutException()));
+        fail(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS));
+        assertEquals(1, state());
+
+        Thread.sleep(OPEN_DURATION_MS + 50);
+        fail(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+        assertEquals(1, state());
+        assertThrows(UpstreamGuard.RejectedCallException.class, () -> guard.call(UPSTREAM, () -> "ok"));
+    }
+
+    @Test
+    void clientErrorsDoNotOpenCircuit() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            fail(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+            fail(new IllegalArgumentException("bad payload"));
+        }
+        assertEquals(0, state());
+        assertEquals("ok", guard.call(UPSTREAM, () -> "ok"));
+    }
+
+    @Test
+    void classifiesUpstreamFailures() {
+        assertTrue(UpstreamGuard.upstreamFailure(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)));
+        assertTrue(UpstreamGuard.upstreamFailure(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS)));
+        assertTrue(UpstreamGuard.upstreamFailure(new SocketTimeoutException()));
+        assertTrue(UpstreamGuard.upstreamFailure(new ResourceAccessException("refused")));
+        assertFalse(UpstreamGuard.upstreamFailure(new HttpClientErrorException(HttpStatus.BAD_REQUEST)));
+        assertFalse(UpstreamGuard.upstreamFailure(new HttpClientErrorException(HttpStatus.UNAUTHORIZED)));
+        assertFalse(UpstreamGuard.upstreamFailure(new IllegalStateException()));
+    }
+
+    private void fail(Exception error) {
+        Callable<Object> call = () -> {
+            throw error;
+        };
+        Exception thrown = assertThrows(Exception.class, () -> guard.call(UPSTREAM, call));
+        assertEquals(error, thrown);
+    }
+
+    private double state() {
+        return meterRegistry.get("resilience.circuit.state").tag("upstream", UPSTREAM).gauge().value();
+    }
+}
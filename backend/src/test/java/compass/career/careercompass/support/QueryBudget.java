@@ -0,0 +1,104 @@
+package compass.career.careercompass.support;
+
+import compass.career.careercompass.configuration.InstrumentedDataSource;
+import compass.career.careercompass.configuration.SqlStatementStats;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Presupuestos de sentencias SQL para tests de integración. Se apoya en la instrumentación
+ * del DataSource ({@code sql.instrumentation.enabled}), así cuenta lo que realmente llega a
+ * JDBC: consultas por colecciones LAZY, asociaciones EAGER y batches. Las aserciones fallan si
+ * no se midió ninguna sentencia, para que un DataSource sin instrumentar no las haga pasar.
+ *
+ * <pre>{@code
+ * CompleteProfileResponse profile = QueryBudget.assertAtMost(4, () -> profileService.getCompleteProfile(id));
+ *
+ * MvcResult result = mockMvc.perform(get("/api/v1/careers")).andReturn();
+ * QueryBudget.assertAtMost(3, result);
+ * }</pre>
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    /**
+     * Ejecuta la acción en el hilo actual y devuelve las estadísticas de sus sentencias.
+     */
+    public static SqlStatementStats measure(Runnable action) {
+        try (SqlStatementStats stats = SqlStatementStats.start()) {
+            action.run();
+            return stats;
+        }
+    }
+
+    /**
+     * Ejecuta la acción y falla si emite más de {@code maxStatements} sentencias.
+     */
+    public static <T> T assertAtMost(int maxStatements, Supplier<T> action) {
+        try (SqlStatementStats stats = SqlStatementStats.start()) {
+            T result = action.get();
+            stats.close();
+            assertAtMost(maxStatements, stats);
+            return result;
+        }
+    }
+
+    /**
+     * Ejecuta la acción y falla si no emite exactamente {@code statements} sentencias.
+     */
+    public static <T> T assertExactly(int statements, Supplier<T> action) {
+        try (SqlStatementStats stats = SqlStatementStats.start()) {
+            T result = action.get();
+            stats.close();
+            assertMeasured(stats);
+            assertEquals(statements, stats.getStatements(),
+                    () -> "Unexpected number of SQL statements: " + stats + "; slowest: " + stats.getSlowestSql());
+            return result;
+        }
+    }
+
+    /**
+     * Falla si la petición hecha con MockMvc emitió más de {@code maxStatements} sentencias.
+     */
+    public static void assertAtMost(int maxStatements, MvcResult result) {
+        assertAtMost(maxStatements, of(result));
+    }
+
+    public static void assertAtMost(int maxStatements, SqlStatementStats stats) {
+        assertMeasured(stats);
+        assertTrue(stats.getStatements() <= maxStatements,
+                () -> "Expected at most " + maxStatements + " SQL statements but got " + stats
+                        + "; slowest: " + stats.getSlowestSql());
+    }
+
+    /**
+     * Falla si el DataSource del contexto no está envuelto por la instrumentación.
+     */
+    public static void assertInstrumented(DataSource dataSource) {
+        assertInstanceOf(InstrumentedDataSource.class, dataSource,
+                "DataSource is not instrumented; is sql.instrumentation.enabled set to false?");
+    }
+
+    private static void assertMeasured(SqlStatementStats stats) {
+        assertTrue(stats.getStatements() > 0,
+                "No SQL statements were measured; is sql.instrumentation.enabled set to false?");
+    }
+
+    /**
+     * Estadísticas de una petición hecha con MockMvc (las deja {@code SqlStatementFilter}).
+     */
+    public static SqlStatementStats of(MvcResult result) {
+        Object stats = result.getRequest().getAttribute(SqlStatementStats.REQUEST_ATTRIBUTE);
+        assertNotNull(stats, "Request was not instrumented; is SqlStatementFilter registered in MockMvc?");
+        return (SqlStatementStats) stats;
+    }
+}